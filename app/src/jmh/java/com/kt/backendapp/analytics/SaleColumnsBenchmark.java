@@ -0,0 +1,83 @@
+package com.kt.backendapp.analytics;
+
+import com.kt.backendapp.benchmark.SampleSales;
+import com.kt.backendapp.entity.Sale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 같은 이력에서 기간 합계/요일별 합계를 계산하는 비용: Sale 엔티티 목록(BigDecimal) vs SaleColumns(원시 배열 + 누적합)
+// 엔티티 쪽은 DB 조회 이후의 계산만 포함 (SQL 경로 전체 응답 시간은 bench/results/sales-columnar-summary.txt)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SaleColumnsBenchmark {
+
+    // 1년 / 10년치 일별 매출
+    @Param({"365", "3650"})
+    private int rows;
+
+    private List<Sale> sales;
+
+    private SaleColumns columns;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        sales = SampleSales.sales(rows);
+        SaleColumns.Builder builder = SaleColumns.builder(rows);
+        for (Sale sale : sales) {
+            builder.add(sale.getSaleDate(), sale.getAmount());
+        }
+        columns = builder.build();
+        // 이력 중간의 90일
+        from = sales.get(rows / 2).getSaleDate();
+        to = from.plusDays(89);
+    }
+
+    @Benchmark
+    public BigDecimal entityRangeSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Sale sale : sales) {
+            if (!sale.getSaleDate().isBefore(from) && !sale.getSaleDate().isAfter(to)) {
+                total = total.add(sale.getAmount());
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long columnarRangeSum() {
+        return columns.sum(from, to);
+    }
+
+    @Benchmark
+    public BigDecimal[] entityWeekdaySums() {
+        BigDecimal[] sums = new BigDecimal[7];
+        for (Sale sale : sales) {
+            if (!sale.getSaleDate().isBefore(from) && !sale.getSaleDate().isAfter(to)) {
+                int weekday = sale.getSaleDate().getDayOfWeek().ordinal();
+                sums[weekday] = sums[weekday] == null ? sale.getAmount() : sums[weekday].add(sale.getAmount());
+            }
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public long[] columnarWeekdaySums() {
+        return columns.weekdaySums(from, to);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kt.backendapp.benchmark;
+
+import com.kt.backendapp.dto.SaleRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// @Valid SaleRequest / 일괄 저장(createSalesBatch) 의 행별 검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaleRequestValidationBenchmark {
+    
+    @Param({"1", "1000", "100000"})
+    private int rows;
+    
+    private ValidatorFactory validatorFactory;
+    
+    private Validator validator;
+    
+    private List<SaleRequest> requests;
+    
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        requests = SampleSales.requests(rows);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+    
+    @Benchmark
+    public int validate() {
+        int violations = 0;
+        for (SaleRequest request : requests) {
+            Set<ConstraintViolation<SaleRequest>> result = validator.validate(request);
+            violations += result.size();
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,56 @@
+package com.kt.backendapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.SaleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// BigDecimal/LocalDate/LocalDateTime 를 담은 SaleResponse 목록의 JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaleResponseSerializationBenchmark {
+    
+    @Param({"1", "1000", "100000"})
+    private int rows;
+    
+    private ObjectMapper objectMapper;
+    
+    private List<SaleResponse> responses;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = SampleSales.objectMapper();
+        responses = SampleSales.responses(rows);
+    }
+    
+    @Benchmark
+    public void serializeList() throws IOException {
+        // writeValue 가 대상 스트림을 닫으므로 호출마다 새 스트림 사용
+        objectMapper.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+    
+    // 컨트롤러 응답 형태: Map.of("success", true, "data", ...)
+    @Benchmark
+    public void serializeEnvelope() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), Map.of("success", true, "data", responses));
+    }
+    
+    // 응답 본문을 byte[] 로 모두 만드는 경우(버퍼링) 와 비교용
+    @Benchmark
+    public byte[] serializeEnvelopeToBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(Map.of("success", true, "data", responses));
+    }
+}
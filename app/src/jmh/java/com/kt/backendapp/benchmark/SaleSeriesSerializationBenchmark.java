@@ -0,0 +1,62 @@
+package com.kt.backendapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.dto.SaleSeriesResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 기존 행 목록 JSON 응답과 열 지향 응답(JSON / CBOR) 의 직렬화 비용 비교. 열 지향은 변환(SaleSeriesResponse.from) 포함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaleSeriesSerializationBenchmark {
+
+    // 1년 / 10년치 일별 매출
+    @Param({"365", "3650"})
+    private int rows;
+
+    private ObjectMapper jsonMapper;
+
+    private ObjectMapper cborMapper;
+
+    private List<SaleResponse> responses;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = SampleSales.objectMapper();
+        cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        responses = SampleSales.responses(rows);
+    }
+
+    @Benchmark
+    public void rowsJson() throws IOException {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), Map.of("success", true, "data", responses));
+    }
+
+    @Benchmark
+    public void seriesJson() throws IOException {
+        SaleSeriesResponse series = SaleSeriesResponse.from("owner@example.com", responses);
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), Map.of("success", true, "data", series));
+    }
+
+    @Benchmark
+    public void seriesCbor() throws IOException {
+        SaleSeriesResponse series = SaleSeriesResponse.from("owner@example.com", responses);
+        cborMapper.writeValue(OutputStream.nullOutputStream(), Map.of("success", true, "data", series));
+    }
+}
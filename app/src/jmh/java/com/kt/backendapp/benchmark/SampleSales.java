@@ -0,0 +1,74 @@
+package com.kt.backendapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.entity.Sale;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 고정 시드 샘플 데이터
+public final class SampleSales {
+    
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+    
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 30, 15, 123_456_000);
+    
+    private SampleSales() {
+    }
+    
+    public static List<Sale> sales(int rows) {
+        Random random = new Random(42);
+        List<Sale> sales = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            sales.add(Sale.builder()
+                    .id((long) i + 1)
+                    .userId("owner@example.com")
+                    .saleDate(FIRST_DAY.plusDays(i))
+                    .amount(BigDecimal.valueOf(50_000_00L + random.nextInt(450_000_00), 2))
+                    .storeName("홍길동 치킨집")
+                    .businessType("치킨전문점")
+                    .createdAt(CREATED_AT.plusDays(i))
+                    .updatedAt(CREATED_AT.plusDays(i).plusHours(3))
+                    .build());
+        }
+        return sales;
+    }
+    
+    public static List<SaleResponse> responses(int rows) {
+        List<SaleResponse> responses = new ArrayList<>(rows);
+        for (Sale sale : sales(rows)) {
+            responses.add(SaleResponse.builder()
+                    .id(sale.getId())
+                    .userId(sale.getUserId())
+                    .saleDate(sale.getSaleDate())
+                    .amount(sale.getAmount())
+                    .storeName(sale.getStoreName())
+                    .businessType(sale.getBusinessType())
+                    .createdAt(sale.getCreatedAt())
+                    .updatedAt(sale.getUpdatedAt())
+                    .build());
+        }
+        return responses;
+    }
+    
+    public static List<SaleRequest> requests(int rows) {
+        List<SaleRequest> requests = new ArrayList<>(rows);
+        for (Sale sale : sales(rows)) {
+            requests.add(new SaleRequest(sale.getUserId(), sale.getSaleDate(), sale.getAmount(),
+                    sale.getStoreName(), sale.getBusinessType()));
+        }
+        return requests;
+    }
+    
+    // Spring Boot 기본 설정과 같은 방식(Jackson2ObjectMapperBuilder)으로 만든 ObjectMapper
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+}
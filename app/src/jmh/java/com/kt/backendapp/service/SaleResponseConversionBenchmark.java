@@ -0,0 +1,41 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.benchmark.SampleSales;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.entity.Sale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaleResponseConversionBenchmark {
+    
+    @Param({"1", "1000", "100000"})
+    private int rows;
+    
+    private List<Sale> sales;
+    
+    @Setup
+    public void setUp() {
+        sales = SampleSales.sales(rows);
+    }
+    
+    // SaleService 조회 메서드들과 같은 stream → convertToResponse → collect 경로
+    @Benchmark
+    public List<SaleResponse> convertToResponse() {
+        return sales.stream()
+                .map(SaleService::convertToResponse)
+                .collect(Collectors.toList());
+    }
+}
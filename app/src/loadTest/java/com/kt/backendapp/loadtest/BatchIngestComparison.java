@@ -0,0 +1,164 @@
+package com.kt.backendapp.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 같은 N건을 POST /api/sales 한 건씩 순서대로 보낼 때와 POST /api/sales/batch(NDJSON) 한 번으로 보낼 때의 저장 시간 비교
+// 라운드마다 새 사용자에 저장하고(모두 INSERT) 중앙값으로 배율을 계산해 bench/results/sales-batch-ingest.txt 에 기록
+// ./gradlew :app:batchIngestBench [-Ploadtest.batch-rows=5000 -Ploadtest.batch-rounds=3]
+public final class BatchIngestComparison {
+
+    private static final String USER_PREFIX = "batchbench-";
+
+    private static final int WARMUP_ROWS = 200;
+
+    // 요청에서 목표로 한 배율
+    private static final double TARGET_SPEEDUP = 20.0;
+
+    private BatchIngestComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int rows = Integer.parseInt(System.getProperty("loadtest.batch-rows", "5000"));
+        int rounds = Integer.parseInt(System.getProperty("loadtest.batch-rounds", "3"));
+        Path resultFile = Path.of(System.getProperty("loadtest.batch-result", "bench/results/sales-batch-ingest.txt"));
+
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            String jdbcUrl = config.jdbcUrl();
+            String jdbcUsername = config.jdbcUsername();
+            String jdbcPassword = config.jdbcPassword();
+            if (config.embeddedDatabase()) {
+                postgres = EmbeddedPostgres.builder().start();
+                jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+                jdbcUsername = "postgres";
+                jdbcPassword = "postgres";
+            }
+            context = LoadTestRunner.startApplication(config, jdbcUrl, jdbcUsername, jdbcPassword);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI baseUri = URI.create("http://localhost:" + port);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("DELETE FROM sales WHERE user_id LIKE ?", USER_PREFIX + "%");
+            jdbcTemplate.update("DELETE FROM sale_statistics WHERE user_id LIKE ?", USER_PREFIX + "%");
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            Ingest ingest = new Ingest(client, baseUri, config.randomSeed());
+
+            ingest.loop("warmup-loop", WARMUP_ROWS);
+            ingest.batch("warmup-batch", WARMUP_ROWS);
+
+            long[] loopNanos = new long[rounds];
+            long[] batchNanos = new long[rounds];
+            for (int round = 0; round < rounds; round++) {
+                loopNanos[round] = ingest.loop("loop-" + round, rows);
+                batchNanos[round] = ingest.batch("batch-" + round, rows);
+                System.out.printf("round %d: loop=%.0fms, batch=%.0fms%n", round, millis(loopNanos[round]), millis(batchNanos[round]));
+            }
+
+            long loopMedian = median(loopNanos);
+            long batchMedian = median(batchNanos);
+            double speedup = (double) loopMedian / batchMedian;
+            List<String> lines = List.of(
+                    "# POST /api/sales 반복 vs POST /api/sales/batch (NDJSON), 같은 건수를 새 사용자에 INSERT",
+                    "# ./gradlew :app:batchIngestBench -Ploadtest.batch-rows=" + rows + " -Ploadtest.batch-rounds=" + rounds,
+                    "finishedAt: " + LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    "availableProcessors: " + Runtime.getRuntime().availableProcessors(),
+                    "javaVersion: " + Runtime.version(),
+                    "virtualThreads: " + config.virtualThreads(),
+                    "database: " + (config.embeddedDatabase() ? "embedded-postgres" : config.jdbcUrl()),
+                    "rows: " + rows,
+                    String.format("loop median: %.0f ms (%.0f rows/s)", millis(loopMedian), rows / (loopMedian / 1e9)),
+                    String.format("batch median: %.0f ms (%.0f rows/s)", millis(batchMedian), rows / (batchMedian / 1e9)),
+                    String.format("speedup: %.1fx (target >= %.0fx)", speedup, TARGET_SPEEDUP));
+            lines.forEach(System.out::println);
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+            Files.write(resultFile, lines, StandardCharsets.UTF_8);
+            System.out.println("결과 저장: " + resultFile);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Ingest(HttpClient client, URI baseUri, long randomSeed) {
+
+        // 한 건씩 응답을 받은 뒤 다음 건을 보냄 (createSale 을 반복 호출하는 클라이언트)
+        long loop(String label, int rows) throws IOException, InterruptedException {
+            List<String> bodies = rows(label, rows);
+            long started = System.nanoTime();
+            for (String body : bodies) {
+                send("/api/sales", "application/json", body);
+            }
+            return System.nanoTime() - started;
+        }
+
+        long batch(String label, int rows) throws IOException, InterruptedException {
+            String body = String.join("\n", rows(label, rows)) + "\n";
+            long started = System.nanoTime();
+            send("/api/sales/batch", "application/x-ndjson", body);
+            return System.nanoTime() - started;
+        }
+
+        private List<String> rows(String label, int rows) {
+            String userId = USER_PREFIX + label + "@example.com";
+            LocalDate firstDay = LocalDate.now().minusDays(rows);
+            SplittableRandom random = new SplittableRandom(randomSeed + label.hashCode());
+            List<String> bodies = new ArrayList<>(rows);
+            for (int day = 0; day < rows; day++) {
+                bodies.add("{\"userId\":\"" + userId + "\",\"saleDate\":\"" + firstDay.plusDays(day)
+                        + "\",\"amount\":" + LoadTestSeeder.amount(random)
+                        + ",\"storeName\":\"벤치마크 매장\",\"businessType\":\"카페\"}");
+            }
+            return bodies;
+        }
+
+        private void send(String path, String contentType, String body) throws IOException, InterruptedException {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .header("Content-Type", contentType)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("저장 실패: path=" + path + ", status=" + response.statusCode()
+                        + ", body=" + response.body());
+            }
+        }
+    }
+}
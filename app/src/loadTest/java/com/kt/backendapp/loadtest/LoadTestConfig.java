@@ -0,0 +1,113 @@
+package com.kt.backendapp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// -Ploadtest.xxx (Gradle) 또는 -Dloadtest.xxx 로 전달되는 부하 테스트 설정
+record LoadTestConfig(
+        int users,
+        int days,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        boolean virtualThreads,
+        Integer poolSize,
+        String profiles,
+        boolean quietLogging,
+        Map<LoadTestOperation, Integer> mix,
+        long randomSeed,
+        String label,
+        Path resultsDir,
+        Path baseline,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword) {
+
+    private static final String DEFAULT_MIX = "range:35,statistics:25,user:10,create:20,update:10";
+
+    static LoadTestConfig fromSystemProperties() {
+        boolean virtualThreads = Boolean.parseBoolean(property("virtual-threads", "false"));
+        String poolSize = property("pool-size", null);
+        String baseline = property("baseline", null);
+        return new LoadTestConfig(
+                Integer.parseInt(property("users", "200")),
+                Integer.parseInt(property("days", "365")),
+                Integer.parseInt(property("concurrency", "64")),
+                parseDuration(property("warmup", "10s")),
+                parseDuration(property("duration", "60s")),
+                virtualThreads,
+                poolSize == null ? null : Integer.valueOf(poolSize),
+                property("profiles", ""),
+                Boolean.parseBoolean(property("quiet-logging", "true")),
+                parseMix(property("mix", DEFAULT_MIX)),
+                Long.parseLong(property("seed", "42")),
+                property("label", virtualThreads ? "virtual" : "platform"),
+                Path.of(property("results-dir", "bench/results/load-test")),
+                baseline == null ? null : Path.of(baseline),
+                property("jdbc-url", null),
+                property("jdbc-username", "kt"),
+                property("jdbc-password", "kt123"));
+    }
+
+    boolean embeddedDatabase() {
+        return jdbcUrl == null;
+    }
+
+    // 결과 파일에 함께 남겨 어떤 조건의 실행이었는지 비교할 수 있도록
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("users", users);
+        description.put("days", days);
+        description.put("concurrency", concurrency);
+        description.put("warmupSeconds", warmup.toSeconds());
+        description.put("durationSeconds", duration.toSeconds());
+        description.put("virtualThreads", virtualThreads);
+        description.put("poolSize", poolSize);
+        description.put("profiles", profiles);
+        description.put("quietLogging", quietLogging);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> weights.put(operation.key(), weight));
+        description.put("mix", weights);
+        description.put("database", embeddedDatabase() ? "embedded-postgres" : jdbcUrl);
+        return description;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+
+    static Map<LoadTestOperation, Integer> parseMix(String value) {
+        Map<LoadTestOperation, Integer> mix = new EnumMap<>(LoadTestOperation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + value);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(LoadTestOperation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 0보다 큰 작업이 없습니다: " + value);
+        }
+        return mix;
+    }
+}
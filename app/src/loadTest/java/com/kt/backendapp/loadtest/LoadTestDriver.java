@@ -0,0 +1,168 @@
+package com.kt.backendapp.loadtest;
+
+import com.kt.backendapp.loadtest.LoadTestSeeder.SeedResult;
+import com.kt.backendapp.loadtest.LoadTestSeeder.SeededSale;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 닫힌 루프(closed-loop) 방식: concurrency 개의 가상 스레드가 응답을 받는 즉시 다음 요청을 보냄
+final class LoadTestDriver {
+
+    // 최대 60초까지 마이크로초 단위로 기록
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private static final int RANGE_DAYS = 30;
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final URI baseUri;
+    private final SeedResult seed;
+    private final LoadTestOperation[] weightedOperations;
+    private final Map<LoadTestOperation, OperationStats> stats = new EnumMap<>(LoadTestOperation.class);
+
+    LoadTestDriver(LoadTestConfig config, HttpClient client, URI baseUri, SeedResult seed) {
+        this.config = config;
+        this.client = client;
+        this.baseUri = baseUri;
+        this.seed = seed;
+        List<LoadTestOperation> operations = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        this.weightedOperations = operations.toArray(LoadTestOperation[]::new);
+        for (LoadTestOperation operation : config.mix().keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    static final class OperationStats {
+        final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    Map<LoadTestOperation, OperationStats> stats() {
+        return stats;
+    }
+
+    // 워밍업 동안은 기록하지 않고, 측정 구간이 시작되는 순간 onMeasureStart 를 호출
+    void run(Runnable onMeasureStart) throws Exception {
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(config.concurrency());
+            for (int i = 0; i < config.concurrency(); i++) {
+                SplittableRandom random = new SplittableRandom(config.randomSeed() * 31 + i);
+                workers.add(executor.submit(() -> work(random, warmupEnd, end)));
+            }
+            sleepUntil(warmupEnd);
+            onMeasureStart.run();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+    }
+
+    private Void work(SplittableRandom random, long warmupEnd, long end) {
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            LoadTestOperation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            HttpRequest request = buildRequest(operation, random);
+            boolean measuring = now >= warmupEnd;
+            int status;
+            long started = System.nanoTime();
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (Exception e) {
+                status = -1;
+            }
+            long elapsedMicros = (System.nanoTime() - started) / 1_000;
+            if (!measuring) {
+                continue;
+            }
+            OperationStats operationStats = stats.get(operation);
+            if (status >= 200 && status < 300) {
+                operationStats.latencyMicros.recordValue(Math.min(elapsedMicros, HIGHEST_TRACKABLE_MICROS));
+            } else if (status == 503) {
+                operationStats.rejected.increment();
+            } else {
+                operationStats.errors.increment();
+            }
+        }
+        return null;
+    }
+
+    private HttpRequest buildRequest(LoadTestOperation operation, SplittableRandom random) {
+        String userId = seed.userIds().get(random.nextInt(seed.userIds().size()));
+        return switch (operation) {
+            case RANGE -> {
+                LocalDate start = randomDay(random, 0);
+                yield get("/api/sales/user/" + userId + "/range?startDate=" + start + "&endDate=" + start.plusDays(RANGE_DAYS - 1));
+            }
+            case STATISTICS -> get("/api/sales/user/" + userId + "/statistics");
+            case USER -> get("/api/users/" + userId);
+            // 기존 날짜(upsert 갱신)와 새 날짜(삽입)가 섞이도록 마지막 날 이후 30일까지 포함
+            case CREATE -> send("POST", "/api/sales",
+                    saleJson(userId, randomDay(random, RANGE_DAYS), random));
+            case UPDATE -> {
+                SeededSale sale = seed.sample().get(random.nextInt(seed.sample().size()));
+                yield send("PUT", "/api/sales/" + sale.id() + "/user/" + sale.userId(),
+                        saleJson(sale.userId(), sale.saleDate(), random));
+            }
+        };
+    }
+
+    private LocalDate randomDay(SplittableRandom random, int extraDays) {
+        return seed.firstDay().plusDays(random.nextInt(config.days() + extraDays));
+    }
+
+    private static String saleJson(String userId, LocalDate saleDate, SplittableRandom random) {
+        return "{\"userId\":\"" + userId + "\",\"saleDate\":\"" + saleDate
+                + "\",\"amount\":" + LoadTestSeeder.amount(random)
+                + ",\"storeName\":\"부하테스트 매장\",\"businessType\":\"한식\"}";
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kt.backendapp.loadtest;
+
+import java.util.Arrays;
+
+// 혼합 트래픽을 구성하는 요청 종류
+enum LoadTestOperation {
+    RANGE("range"),
+    STATISTICS("statistics"),
+    USER("user"),
+    CREATE("create"),
+    UPDATE("update");
+
+    private final String key;
+
+    LoadTestOperation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static LoadTestOperation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 부하 테스트 작업: " + key));
+    }
+}
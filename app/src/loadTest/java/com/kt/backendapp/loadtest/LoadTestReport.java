@@ -0,0 +1,201 @@
+package com.kt.backendapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kt.backendapp.loadtest.LoadTestDriver.OperationStats;
+import com.kt.backendapp.loadtest.LoadTestRunner.HikariSampler;
+import com.kt.backendapp.loadtest.LoadTestSeeder.SeedResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 실행 결과를 bench/results/load-test/<시각>-<label>.json 으로 저장하고 이전 실행과 비교
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestConfig config;
+    private final SeedResult seed;
+    private final Map<LoadTestOperation, OperationStats> stats;
+    private final HikariSampler hikari;
+    private final LocalDateTime finishedAt = LocalDateTime.now();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    LoadTestReport(LoadTestConfig config, SeedResult seed, Map<LoadTestOperation, OperationStats> stats,
+                   HikariSampler hikari) {
+        this.config = config;
+        this.seed = seed;
+        this.stats = stats;
+        this.hikari = hikari;
+    }
+
+    Path write() throws IOException {
+        Files.createDirectories(config.resultsDir());
+        Path file = config.resultsDir().resolve(finishedAt.format(FILE_TIMESTAMP) + "-" + config.label() + ".json");
+        objectMapper.writeValue(file.toFile(), toMap());
+        return file;
+    }
+
+    Map<String, Object> toMap() {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("label", config.label());
+        result.put("finishedAt", finishedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        result.put("commit", gitCommit());
+        result.put("environment", Map.of(
+                "javaVersion", Runtime.version().toString(),
+                "availableProcessors", Runtime.getRuntime().availableProcessors()));
+        result.put("config", config.describe());
+        result.put("seed", Map.of(
+                "users", seed.userIds().size(),
+                "rows", seed.rows(),
+                "seconds", round(seed.elapsed().toMillis() / 1000.0)));
+
+        long totalOk = 0;
+        long totalRejected = 0;
+        long totalErrors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<LoadTestOperation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            Histogram histogram = operationStats.latencyMicros;
+            long ok = histogram.getTotalCount();
+            long rejected = operationStats.rejected.sum();
+            long errors = operationStats.errors.sum();
+            totalOk += ok;
+            totalRejected += rejected;
+            totalErrors += errors;
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("ok", ok);
+            operation.put("rejected", rejected);
+            operation.put("errors", errors);
+            operation.put("throughputPerSecond", round(ok / seconds));
+            operation.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            operation.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+            operation.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            operation.put("maxMs", millis(histogram.getMaxValue()));
+            operations.put(entry.getKey().key(), operation);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("ok", totalOk);
+        summary.put("rejected", totalRejected);
+        summary.put("errors", totalErrors);
+        summary.put("throughputPerSecond", round(totalOk / seconds));
+        summary.put("p50Ms", millis(combined().getValueAtPercentile(50)));
+        summary.put("p99Ms", millis(combined().getValueAtPercentile(99)));
+        result.put("summary", summary);
+        result.put("operations", operations);
+
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("maximumPoolSize", (long) hikari.maximumPoolSize);
+        pool.put("acquireCount", hikari.acquireCount);
+        pool.put("acquireMeanMs", hikari.acquireCount == 0 ? 0 : round(hikari.acquireTotalMillis / hikari.acquireCount));
+        pool.put("acquireMaxMs", round(hikari.acquireMaxMillis));
+        pool.put("usageMeanMs", hikari.usageCount == 0 ? 0 : round(hikari.usageTotalMillis / hikari.usageCount));
+        pool.put("pendingMax", (long) hikari.pendingMax);
+        pool.put("pendingMean", hikari.pendingSamples == 0 ? 0 : round(hikari.pendingSum / hikari.pendingSamples));
+        pool.put("timeouts", (long) hikari.timeouts);
+        result.put("hikari", pool);
+        return result;
+    }
+
+    void print(PrintStream out) {
+        JsonNode current = objectMapper.valueToTree(toMap());
+        out.println();
+        out.printf("%-12s %10s %8s %8s %10s %10s %10s %10s%n",
+                "operation", "ok", "503", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        current.get("operations").properties().forEach(entry -> {
+            JsonNode operation = entry.getValue();
+            out.printf("%-12s %10d %8d %8d %10.1f %10.2f %10.2f %10.2f%n", entry.getKey(),
+                    operation.get("ok").asLong(), operation.get("rejected").asLong(), operation.get("errors").asLong(),
+                    operation.get("throughputPerSecond").asDouble(), operation.get("p50Ms").asDouble(),
+                    operation.get("p99Ms").asDouble(), operation.get("maxMs").asDouble());
+        });
+        JsonNode summary = current.get("summary");
+        out.printf("%-12s %10d %8d %8d %10.1f %10.2f %10.2f%n", "total",
+                summary.get("ok").asLong(), summary.get("rejected").asLong(), summary.get("errors").asLong(),
+                summary.get("throughputPerSecond").asDouble(), summary.get("p50Ms").asDouble(),
+                summary.get("p99Ms").asDouble());
+        out.println("hikari: " + current.get("hikari"));
+    }
+
+    // -Ploadtest.baseline 로 지정한 파일, 없으면 같은 label 의 직전 결과와 비교
+    void printComparison(PrintStream out, Path currentFile) throws IOException {
+        Optional<Path> baseline = config.baseline() != null ? Optional.of(config.baseline()) : previousResult(currentFile);
+        if (baseline.isEmpty()) {
+            out.println("비교할 이전 결과가 없습니다.");
+            return;
+        }
+        JsonNode previous = objectMapper.readTree(baseline.get().toFile());
+        JsonNode current = objectMapper.valueToTree(toMap());
+        out.println();
+        out.println("비교 기준: " + baseline.get());
+        out.printf("%-12s %22s %22s %22s%n", "operation", "req/s", "p50(ms)", "p99(ms)");
+        current.get("operations").properties().forEach(entry -> {
+            JsonNode before = previous.path("operations").path(entry.getKey());
+            if (before.isMissingNode()) {
+                return;
+            }
+            out.printf("%-12s %22s %22s %22s%n", entry.getKey(),
+                    delta(before, entry.getValue(), "throughputPerSecond"),
+                    delta(before, entry.getValue(), "p50Ms"),
+                    delta(before, entry.getValue(), "p99Ms"));
+        });
+        out.printf("%-12s %22s %22s %22s%n", "total",
+                delta(previous.path("summary"), current.get("summary"), "throughputPerSecond"),
+                delta(previous.path("summary"), current.get("summary"), "p50Ms"),
+                delta(previous.path("summary"), current.get("summary"), "p99Ms"));
+        out.printf("%-12s %22s%n", "hikari wait", delta(previous.path("hikari"), current.get("hikari"), "acquireMeanMs"));
+    }
+
+    private Optional<Path> previousResult(Path currentFile) throws IOException {
+        String suffix = "-" + config.label() + ".json";
+        try (Stream<Path> files = Files.list(config.resultsDir())) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .filter(file -> !file.equals(currentFile))
+                    .max(Comparator.comparing(file -> file.getFileName().toString()));
+        }
+    }
+
+    private Histogram combined() {
+        Histogram combined = new Histogram(3);
+        stats.values().forEach(operationStats -> combined.add(operationStats.latencyMicros));
+        return combined;
+    }
+
+    private static String delta(JsonNode before, JsonNode after, String field) {
+        double previous = before.path(field).asDouble();
+        double current = after.path(field).asDouble();
+        String change = previous == 0 ? "n/a" : String.format("%+.1f%%", (current - previous) / previous * 100);
+        return String.format("%.2f -> %.2f (%s)", previous, current, change);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+            String commit = new String(process.getInputStream().readAllBytes()).trim();
+            return process.waitFor() == 0 ? commit : null;
+        } catch (IOException | InterruptedException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.kt.backendapp.loadtest;
+
+import com.kt.backendapp.App;
+import com.kt.backendapp.loadtest.LoadTestSeeder.SeedResult;
+import com.kt.backendapp.service.SalePartitionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 부하 테스트 진입점: DB 준비 -> 애플리케이션 기동 -> 데이터 적재 -> 혼합 트래픽 -> 결과 저장/비교
+public final class LoadTestRunner {
+
+    private static final long PENDING_SAMPLE_INTERVAL_MILLIS = 10;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("부하 테스트 설정: " + config.describe());
+
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            String jdbcUrl = config.jdbcUrl();
+            String jdbcUsername = config.jdbcUsername();
+            String jdbcPassword = config.jdbcPassword();
+            if (config.embeddedDatabase()) {
+                postgres = EmbeddedPostgres.builder().start();
+                jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+                jdbcUsername = "postgres";
+                jdbcPassword = "postgres";
+                System.out.println("내장 PostgreSQL 시작: " + jdbcUrl);
+            }
+
+            context = startApplication(config, jdbcUrl, jdbcUsername, jdbcPassword);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI baseUri = URI.create("http://localhost:" + port);
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            SeedResult seed = new LoadTestSeeder(config, jdbcUrl, jdbcUsername, jdbcPassword, client, baseUri).seed();
+            System.out.printf("데이터 적재 완료: users=%d, rows=%d, %.1fs%n",
+                    seed.userIds().size(), seed.rows(), seed.elapsed().toMillis() / 1000.0);
+            // 지난 연도 데이터는 기본 파티션에 들어가므로 야간 파티션 정리를 한 번 돌려 연도 파티션으로 옮김
+            context.getBean(SalePartitionService.class).maintain();
+            context.getBean(JdbcTemplate.class).execute("ANALYZE sales");
+
+            LoadTestDriver driver = new LoadTestDriver(config, client, baseUri, seed);
+            HikariSampler hikari = new HikariSampler(registry);
+            System.out.printf("트래픽 시작: warmup=%ds, duration=%ds, concurrency=%d%n",
+                    config.warmup().toSeconds(), config.duration().toSeconds(), config.concurrency());
+            driver.run(hikari::start);
+            hikari.stop();
+
+            LoadTestReport report = new LoadTestReport(config, seed, driver.stats(), hikari);
+            Path resultFile = report.write();
+            report.print(System.out);
+            System.out.println("결과 저장: " + resultFile);
+            report.printComparison(System.out, resultFile);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    static ConfigurableApplicationContext startApplication(LoadTestConfig config, String jdbcUrl,
+                                                                   String jdbcUsername, String jdbcPassword) {
+        // 명령행 인자로 넘겨 application.yml 보다 우선 적용
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + jdbcUsername,
+                "--spring.datasource.password=" + jdbcPassword,
+                "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                // 모든 부하가 한 IP 에서 나가므로 요청 속도 제한은 끄고 서버 처리량만 측정
+                "--app.rate-limit.enabled=false"));
+        if (!config.profiles().isBlank()) {
+            args.add("--spring.profiles.active=" + config.profiles());
+        }
+        // 로그 설정 자체의 비용을 비교할 때는 -Ploadtest.quiet-logging=false 로 프로필 설정을 그대로 사용
+        if (config.quietLogging()) {
+            args.addAll(List.of(
+                    "--spring.jpa.show-sql=false",
+                    "--spring.jpa.properties.hibernate.format_sql=false",
+                    "--logging.level.com.kt.backendapp=WARN",
+                    "--logging.level.org.springframework.web=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        }
+        if (config.poolSize() != null) {
+            args.add("--spring.datasource.hikari.maximum-pool-size=" + config.poolSize());
+        }
+        return new SpringApplicationBuilder(App.class).run(args.toArray(String[]::new));
+    }
+
+    // 측정 구간의 Hikari 커넥션 획득 대기 시간과 대기 중인 스레드 수를 수집
+    static final class HikariSampler {
+
+        private final MeterRegistry registry;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private Thread samplerThread;
+        private long startAcquireCount;
+        private double startAcquireTotalMillis;
+        private long startUsageCount;
+        private double startUsageTotalMillis;
+        private double startTimeouts;
+
+        long acquireCount;
+        double acquireTotalMillis;
+        double acquireMaxMillis;
+        long usageCount;
+        double usageTotalMillis;
+        double timeouts;
+        double pendingMax;
+        double pendingSum;
+        long pendingSamples;
+        double maximumPoolSize;
+
+        HikariSampler(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        void start() {
+            Timer acquire = timer("hikaricp.connections.acquire");
+            Timer usage = timer("hikaricp.connections.usage");
+            startAcquireCount = acquire.count();
+            startAcquireTotalMillis = acquire.totalTime(TimeUnit.MILLISECONDS);
+            startUsageCount = usage.count();
+            startUsageTotalMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+            startTimeouts = counterValue("hikaricp.connections.timeout");
+            Gauge pending = registry.get("hikaricp.connections.pending").gauge();
+            running.set(true);
+            samplerThread = Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    double value = pending.value();
+                    pendingMax = Math.max(pendingMax, value);
+                    pendingSum += value;
+                    pendingSamples++;
+                    try {
+                        Thread.sleep(PENDING_SAMPLE_INTERVAL_MILLIS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        void stop() throws InterruptedException {
+            running.set(false);
+            samplerThread.join();
+            Timer acquire = timer("hikaricp.connections.acquire");
+            Timer usage = timer("hikaricp.connections.usage");
+            acquireCount = acquire.count() - startAcquireCount;
+            acquireTotalMillis = acquire.totalTime(TimeUnit.MILLISECONDS) - startAcquireTotalMillis;
+            acquireMaxMillis = acquire.max(TimeUnit.MILLISECONDS);
+            usageCount = usage.count() - startUsageCount;
+            usageTotalMillis = usage.totalTime(TimeUnit.MILLISECONDS) - startUsageTotalMillis;
+            timeouts = counterValue("hikaricp.connections.timeout") - startTimeouts;
+            maximumPoolSize = registry.get("hikaricp.connections.max").gauge().value();
+        }
+
+        private Timer timer(String name) {
+            return registry.get(name).timer();
+        }
+
+        private double counterValue(String name) {
+            return Search.in(registry).name(name).counters().stream()
+                    .mapToDouble(counter -> counter.count())
+                    .sum();
+        }
+    }
+}
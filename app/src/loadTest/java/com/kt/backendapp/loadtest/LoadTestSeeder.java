@@ -0,0 +1,196 @@
+package com.kt.backendapp.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+// N명 x M일 매출을 준비: 사용자는 JDBC 로, 매출은 실제 NDJSON 일괄 저장 API 로 적재
+final class LoadTestSeeder {
+
+    static final String USER_PREFIX = "loadtest-";
+
+    private static final String[] BUSINESS_TYPES = {"한식", "카페", "치킨", "분식", "베이커리"};
+
+    // 동시에 보내는 일괄 저장 요청 수 (커넥션 풀보다 작게 유지해 bulkhead 에 걸리지 않도록)
+    private static final int SEED_PARALLELISM = 4;
+
+    // 업데이트 요청 대상으로 쓸 기존 매출 표본 수
+    private static final int SAMPLE_SIZE = 10_000;
+
+    private final LoadTestConfig config;
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+    private final HttpClient client;
+    private final URI baseUri;
+
+    LoadTestSeeder(LoadTestConfig config, String jdbcUrl, String jdbcUsername, String jdbcPassword,
+                   HttpClient client, URI baseUri) {
+        this.config = config;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUsername = jdbcUsername;
+        this.jdbcPassword = jdbcPassword;
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    record SeededSale(long id, String userId, LocalDate saleDate) {
+    }
+
+    record SeedResult(List<String> userIds, List<SeededSale> sample, LocalDate firstDay, LocalDate lastDay,
+                      long rows, Duration elapsed) {
+    }
+
+    static String userId(int index) {
+        return USER_PREFIX + String.format("%05d", index) + "@example.com";
+    }
+
+    SeedResult seed() throws Exception {
+        long started = System.nanoTime();
+        LocalDate lastDay = LocalDate.now().minusDays(1);
+        LocalDate firstDay = lastDay.minusDays(config.days() - 1L);
+
+        List<String> userIds = new ArrayList<>(config.users());
+        for (int i = 1; i <= config.users(); i++) {
+            userIds.add(userId(i));
+        }
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, jdbcUsername, jdbcPassword)) {
+            // 외부 DB 를 쓸 때 이전 실행이 남긴 데이터 정리
+            execute(connection, "DELETE FROM sales WHERE user_id LIKE '" + USER_PREFIX + "%'");
+            execute(connection, "DELETE FROM sale_statistics WHERE user_id LIKE '" + USER_PREFIX + "%'");
+            execute(connection, "DELETE FROM users WHERE email LIKE '" + USER_PREFIX + "%'");
+            insertUsers(connection, userIds);
+        }
+
+        insertSales(userIds, firstDay);
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, jdbcUsername, jdbcPassword)) {
+            execute(connection, "ANALYZE sales");
+            execute(connection, "ANALYZE sale_statistics");
+            long rows = countSales(connection);
+            List<SeededSale> sample = sampleSales(connection);
+            return new SeedResult(userIds, sample, firstDay, lastDay, rows,
+                    Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private void insertUsers(Connection connection, List<String> userIds) throws SQLException {
+        String sql = "INSERT INTO users (email, name, store_name, business_type, address, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, now(), now())";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < userIds.size(); i++) {
+                statement.setString(1, userIds.get(i));
+                statement.setString(2, "부하테스트" + (i + 1));
+                statement.setString(3, "부하테스트 매장 " + (i + 1));
+                statement.setString(4, BUSINESS_TYPES[i % BUSINESS_TYPES.length]);
+                statement.setString(5, "서울시 테스트구 " + (i + 1));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void insertSales(List<String> userIds, LocalDate firstDay) throws Exception {
+        Semaphore permits = new Semaphore(SEED_PARALLELISM);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                String userId = userIds.get(i);
+                String businessType = BUSINESS_TYPES[i % BUSINESS_TYPES.length];
+                SplittableRandom random = new SplittableRandom(config.randomSeed() + i);
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        postBatch(salesBody(userId, businessType, firstDay, random));
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private String salesBody(String userId, String businessType, LocalDate firstDay, SplittableRandom random) {
+        StringBuilder body = new StringBuilder(config.days() * 160);
+        for (int day = 0; day < config.days(); day++) {
+            body.append("{\"userId\":\"").append(userId)
+                    .append("\",\"saleDate\":\"").append(firstDay.plusDays(day))
+                    .append("\",\"amount\":").append(amount(random))
+                    .append(",\"storeName\":\"부하테스트 매장\",\"businessType\":\"").append(businessType)
+                    .append("\"}\n");
+        }
+        return body.toString();
+    }
+
+    static BigDecimal amount(SplittableRandom random) {
+        return BigDecimal.valueOf(random.nextLong(10_000, 2_000_000));
+    }
+
+    private void postBatch(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/sales/batch"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        for (int attempt = 0; ; attempt++) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                return;
+            }
+            if (response.statusCode() != 503 || attempt >= 10) {
+                throw new IllegalStateException("매출 적재 실패: status=" + response.statusCode() + ", body=" + response.body());
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private long countSales(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT count(*) FROM sales WHERE user_id LIKE '" + USER_PREFIX + "%'");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private List<SeededSale> sampleSales(Connection connection) throws SQLException {
+        List<SeededSale> sample = new ArrayList<>(SAMPLE_SIZE);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, user_id, sale_date FROM sales WHERE user_id LIKE '" + USER_PREFIX + "%' "
+                        + "ORDER BY md5(id::text) LIMIT " + SAMPLE_SIZE);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                sample.add(new SeededSale(resultSet.getLong(1), resultSet.getString(2),
+                        resultSet.getObject(3, LocalDate.class)));
+            }
+        }
+        return sample;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.kt.backendapp.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// KLL 분위수 스케치: 값 n 개를 O(k) 개만 남겨 순위/분위수를 근사 (순위 오차 대략 1.7 / k, k=200 이면 1% 이내)
+// level h 의 값은 가중치 2^h. level 이 가득 차면 정렬 후 한 칸 걸러 절반만 위 level 로 올림
+// 한 스레드에서 만들고, 다 만든 뒤에는 읽기만 함 (조회 메서드는 상태를 바꾸지 않음)
+public final class KllSketch {
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+
+    private final List<double[]> levels = new ArrayList<>();
+
+    private final List<Integer> sizes = new ArrayList<>();
+
+    private final SplittableRandom random;
+
+    private long count;
+
+    private double min = Double.NaN;
+
+    private double max = Double.NaN;
+
+    public KllSketch(int k) {
+        this(k, new SplittableRandom());
+    }
+
+    KllSketch(int k, SplittableRandom random) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k 는 8 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.random = random;
+        addLevel();
+    }
+
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count++;
+        append(0, value);
+        compactIfFull();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // 남아 있는 값 개수 (메모리 사용량 확인용)
+    public int getRetained() {
+        int retained = 0;
+        for (int size : sizes) {
+            retained += size;
+        }
+        return retained;
+    }
+
+    // value 이하인 값의 비율 (0 ~ 1). 비어 있으면 NaN
+    public double cdf(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (value < min) {
+            return 0;
+        }
+        if (value >= max) {
+            return 1;
+        }
+        long rank = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            double[] items = levels.get(h);
+            int size = sizes.get(h);
+            int below = 0;
+            for (int i = 0; i < size; i++) {
+                if (items[i] <= value) {
+                    below++;
+                }
+            }
+            rank += (long) below << h;
+        }
+        return Math.min(1.0, (double) rank / count);
+    }
+
+    // fraction(0 ~ 1) 분위수. 비어 있으면 NaN
+    public double quantile(double fraction) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (fraction <= 0) {
+            return min;
+        }
+        if (fraction >= 1) {
+            return max;
+        }
+        int retained = getRetained();
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            double[] items = levels.get(h);
+            int size = sizes.get(h);
+            for (int i = 0; i < size; i++) {
+                values[n] = items[i];
+                weights[n] = 1L << h;
+                n++;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        long total = 0;
+        for (long weight : weights) {
+            total += weight;
+        }
+        double target = fraction * total;
+        long cumulative = 0;
+        for (int index : order) {
+            cumulative += weights[index];
+            if (cumulative >= target) {
+                return values[index];
+            }
+        }
+        return max;
+    }
+
+    private void compactIfFull() {
+        for (int h = 0; h < levels.size(); h++) {
+            if (sizes.get(h) >= capacity(h)) {
+                if (h + 1 == levels.size()) {
+                    addLevel();
+                }
+                compact(h);
+            }
+        }
+    }
+
+    // 정렬 후 무작위 시작점(0 또는 1)부터 한 칸 걸러 위 level 로 올리고 나머지는 버림 (홀수 개면 하나는 남김)
+    private void compact(int h) {
+        double[] items = levels.get(h);
+        int size = sizes.get(h);
+        Arrays.sort(items, 0, size);
+        int keep = size % 2;
+        double kept = keep == 1 ? items[size - 1] : 0;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = offset; i < size - keep; i += 2) {
+            append(h + 1, items[i]);
+        }
+        sizes.set(h, 0);
+        if (keep == 1) {
+            append(h, kept);
+        }
+    }
+
+    private int capacity(int h) {
+        int depth = levels.size() - h - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void append(int h, double value) {
+        double[] items = levels.get(h);
+        int size = sizes.get(h);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(MIN_CAPACITY, items.length * 2));
+            levels.set(h, items);
+        }
+        items[size] = value;
+        sizes.set(h, size + 1);
+    }
+
+    private void addLevel() {
+        levels.add(new double[Math.max(MIN_CAPACITY, k / 4)]);
+        sizes.add(0);
+    }
+}
@@ -0,0 +1,211 @@
+package com.kt.backendapp.analytics;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 사용자 한 명의 매출 이력을 열 단위 원시 배열로 보관 (날짜 오름차순, 날짜당 한 건)
+// epochDays: LocalDate.toEpochDay, amounts: 금액 * 100 (소수 둘째 자리까지), prefix[i]: amounts[0, i) 의 합
+// 기간 합계/건수는 이진 탐색 두 번 + 누적합 차이로 O(log n). 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드에서 읽음 (쓰기는 withChanges 로 새 배열을 만듦)
+public final class SaleColumns {
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private static final SaleColumns EMPTY = new SaleColumns(new int[0], new long[0]);
+
+    private final int[] epochDays;
+
+    private final long[] amounts;
+
+    private final long[] prefix;
+
+    private SaleColumns(int[] epochDays, long[] amounts) {
+        this.epochDays = epochDays;
+        this.amounts = amounts;
+        this.prefix = new long[amounts.length + 1];
+        for (int i = 0; i < amounts.length; i++) {
+            prefix[i + 1] = Math.addExact(prefix[i], amounts[i]);
+        }
+    }
+
+    public static SaleColumns empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    // [from, to] 합계 (금액 * 100)
+    public long sum(LocalDate from, LocalDate to) {
+        int start = startIndex(from);
+        int end = endIndex(to);
+        return end > start ? prefix[end] - prefix[start] : 0;
+    }
+
+    public int count(LocalDate from, LocalDate to) {
+        return Math.max(0, endIndex(to) - startIndex(from));
+    }
+
+    // [from, to] 요일별 합계 (DayOfWeek.getValue() - 1 위치, 월요일 = 0)
+    public long[] weekdaySums(LocalDate from, LocalDate to) {
+        long[] sums = new long[7];
+        int end = endIndex(to);
+        for (int i = startIndex(from); i < end; i++) {
+            sums[dayOfWeekIndex(epochDays[i])] += amounts[i];
+        }
+        return sums;
+    }
+
+    public int[] weekdayCounts(LocalDate from, LocalDate to) {
+        int[] counts = new int[7];
+        int end = endIndex(to);
+        for (int i = startIndex(from); i < end; i++) {
+            counts[dayOfWeekIndex(epochDays[i])]++;
+        }
+        return counts;
+    }
+
+    // [from, to] 에서 금액이 가장 큰 행의 위치 (같으면 이른 날짜). 없으면 -1
+    public int maxIndex(LocalDate from, LocalDate to) {
+        int best = -1;
+        int end = endIndex(to);
+        for (int i = startIndex(from); i < end; i++) {
+            if (best < 0 || amounts[i] > amounts[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    public int minIndex(LocalDate from, LocalDate to) {
+        int worst = -1;
+        int end = endIndex(to);
+        for (int i = startIndex(from); i < end; i++) {
+            if (worst < 0 || amounts[i] < amounts[worst]) {
+                worst = i;
+            }
+        }
+        return worst;
+    }
+
+    public LocalDate dateAt(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public long amountAt(int index) {
+        return amounts[index];
+    }
+
+    // changes 의 날짜를 바꾼 새 배열 (금액이 null 이면 그 날짜 삭제). 기존 배열은 그대로 두므로 읽는 중인 스레드에 영향 없음
+    // 원래 배열과 정렬한 변경분을 한 번 병합하므로 O(n + k log k), DB 를 읽지 않음
+    public SaleColumns withChanges(Map<LocalDate, BigDecimal> changes) {
+        TreeMap<Integer, Long> sorted = new TreeMap<>();
+        changes.forEach((saleDate, amount) ->
+                sorted.put(Math.toIntExact(saleDate.toEpochDay()), amount == null ? null : toMinorUnits(amount)));
+        int[] mergedDays = new int[epochDays.length + sorted.size()];
+        long[] mergedAmounts = new long[mergedDays.length];
+        int size = 0;
+        int i = 0;
+        Iterator<Map.Entry<Integer, Long>> pending = sorted.entrySet().iterator();
+        Map.Entry<Integer, Long> change = pending.hasNext() ? pending.next() : null;
+        while (i < epochDays.length || change != null) {
+            if (change == null || (i < epochDays.length && epochDays[i] < change.getKey())) {
+                mergedDays[size] = epochDays[i];
+                mergedAmounts[size++] = amounts[i++];
+                continue;
+            }
+            if (i < epochDays.length && epochDays[i] == change.getKey()) {
+                i++;
+            }
+            if (change.getValue() != null) {
+                mergedDays[size] = change.getKey();
+                mergedAmounts[size++] = change.getValue();
+            }
+            change = pending.hasNext() ? pending.next() : null;
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new SaleColumns(Arrays.copyOf(mergedDays, size), Arrays.copyOf(mergedAmounts, size));
+    }
+
+    // 배열 본문 + 객체 헤더 대략치 (캐시 메모리 한도 계산용)
+    public long estimatedBytes() {
+        return 64L + 4L * epochDays.length + 8L * amounts.length + 8L * prefix.length;
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long amount) {
+        return BigDecimal.valueOf(amount, AMOUNT_SCALE);
+    }
+
+    // from 이상인 첫 위치
+    private int startIndex(LocalDate from) {
+        return lowerBound(Math.toIntExact(from.toEpochDay()));
+    }
+
+    // to 보다 큰 첫 위치
+    private int endIndex(LocalDate to) {
+        return lowerBound(Math.toIntExact(to.toEpochDay()) + 1);
+    }
+
+    private int lowerBound(int epochDay) {
+        int found = Arrays.binarySearch(epochDays, epochDay);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    // 1970-01-01 은 목요일
+    private static int dayOfWeekIndex(int epochDay) {
+        return Math.floorMod(epochDay + DayOfWeek.THURSDAY.ordinal(), 7);
+    }
+
+    // 날짜 오름차순으로만 추가 (SaleRepository 조회 순서 그대로)
+    public static final class Builder {
+
+        private int[] epochDays;
+
+        private long[] amounts;
+
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.epochDays = new int[Math.max(expectedSize, 0)];
+            this.amounts = new long[Math.max(expectedSize, 0)];
+        }
+
+        public Builder add(LocalDate saleDate, BigDecimal amount) {
+            int epochDay = Math.toIntExact(saleDate.toEpochDay());
+            if (size > 0 && epochDay <= epochDays[size - 1]) {
+                throw new IllegalArgumentException("매출 날짜는 중복 없이 오름차순이어야 합니다: " + saleDate);
+            }
+            if (size == epochDays.length) {
+                int capacity = Math.max(16, size * 2);
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+            }
+            epochDays[size] = epochDay;
+            amounts[size] = toMinorUnits(amount);
+            size++;
+            return this;
+        }
+
+        public SaleColumns build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new SaleColumns(Arrays.copyOf(epochDays, size), Arrays.copyOf(amounts, size));
+        }
+    }
+}
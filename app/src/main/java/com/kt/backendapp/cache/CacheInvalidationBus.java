@@ -0,0 +1,12 @@
+package com.kt.backendapp.cache;
+
+import java.util.function.Consumer;
+
+// 여러 앱 인스턴스의 로컬 캐시를 맞추기 위한 무효화 메시지 채널
+// 기본은 같은 JVM 안에서만 전달하는 InMemoryCacheInvalidationBus, 다중 인스턴스 운영 시 Redis pub/sub 등으로 구현한 빈을 등록
+public interface CacheInvalidationBus {
+    
+    void publish(CacheInvalidationMessage message);
+    
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
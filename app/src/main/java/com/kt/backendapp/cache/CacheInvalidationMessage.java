@@ -0,0 +1,5 @@
+package com.kt.backendapp.cache;
+
+// 다른 인스턴스의 로컬 캐시에서 cacheName/key 항목을 지우라는 메시지 (sourceId 는 보낸 인스턴스)
+public record CacheInvalidationMessage(String sourceId, String cacheName, String key) {
+}
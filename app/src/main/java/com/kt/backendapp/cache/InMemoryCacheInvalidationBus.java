@@ -0,0 +1,30 @@
+package com.kt.backendapp.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 단일 인스턴스 및 테스트용: 같은 버스를 구독한 캐시들에 동기적으로 전달
+@Slf4j
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+    
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 메시지 처리 실패: {}", message, e);
+            }
+        }
+    }
+    
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
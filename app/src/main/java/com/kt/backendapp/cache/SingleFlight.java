@@ -0,0 +1,67 @@
+package com.kt.backendapp.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 호출 중 하나만 loader 를 실행하고 나머지는 그 결과(또는 예외)를 함께 받음
+// 결과를 보관하지 않으므로 실행이 끝난 뒤 들어온 호출은 다시 실행함. 키에 데이터 버전을 넣어야 오래된 결과를 나눠 받지 않음
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executedCounter = Counter.builder("app.singleflight.requests")
+                .description("동일 요청 합치기 대상 호출 수 (executed: 직접 실행, coalesced: 진행 중인 실행 결과를 받음)")
+                .tag("name", name)
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("app.singleflight.requests")
+                .description("동일 요청 합치기 대상 호출 수 (executed: 직접 실행, coalesced: 진행 중인 실행 결과를 받음)")
+                .tag("name", name)
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            coalescedCounter.increment();
+            return await(running);
+        }
+        executedCounter.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
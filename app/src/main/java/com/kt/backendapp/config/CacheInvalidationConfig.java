@@ -0,0 +1,18 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.cache.CacheInvalidationBus;
+import com.kt.backendapp.cache.InMemoryCacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheInvalidationConfig {
+    
+    // 다른 CacheInvalidationBus 빈(예: Redis pub/sub)이 등록되면 그것을 사용
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+}
@@ -0,0 +1,15 @@
+package com.kt.backendapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+    
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,42 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.metrics.SqlExecutionCounter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+// 요청별 SQL 문/행 수 집계를 위해 DataSource 를 datasource-proxy 로 감쌈 (SQL 로그 없이도 요청당 쿼리 수 확인)
+// 조회 행 수는 ResultSet 을 감싸 next() 마다 리스너를 거쳐야 하므로 app.metrics.sql.count-rows 를 켤 때만 집계 (기본 꺼짐)
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor(Environment environment) {
+        SqlExecutionCounter counter = new SqlExecutionCounter();
+        boolean countRows = environment.getProperty("app.metrics.sql.count-rows", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 읽기/쓰기 분리 시 라우팅 DataSource(LazyConnectionDataSourceProxy)는 두고 실제 풀만 감싸 중복 집계를 피함
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(counter);
+                    if (countRows) {
+                        builder.methodListener(counter).proxyResultSet();
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
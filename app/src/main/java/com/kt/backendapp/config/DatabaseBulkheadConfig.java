@@ -0,0 +1,70 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.datasource.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+// 각 Hikari 풀(단일 풀 또는 primary/replica)을 풀 크기만큼의 허용 수를 가진 BulkheadDataSource 로 감쌈
+// datasource-proxy(DataSourceProxyConfig)와 어느 쪽이 먼저 감싸도 풀마다 한 번씩만 감싸도록 unwrap 으로 확인
+@Configuration
+@ConditionalOnProperty(name = "app.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(Environment environment) {
+        Duration maxWait = environment.getProperty("app.bulkhead.max-wait", Duration.class, Duration.ofMillis(100));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 라우팅 DataSource(LazyConnectionDataSourceProxy)는 두고 실제 풀만 감쌈
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+                try {
+                    if (!dataSource.isWrapperFor(HikariDataSource.class) || dataSource.isWrapperFor(BulkheadDataSource.class)) {
+                        return bean;
+                    }
+                    HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+                    String poolName = pool.getPoolName() != null ? pool.getPoolName() : beanName;
+                    return new BulkheadDataSource(dataSource, poolName, pool.getMaximumPoolSize(),
+                            maxWait, Duration.ofMillis(pool.getConnectionTimeout()));
+                } catch (SQLException e) {
+                    throw new IllegalStateException("DataSource bulkhead 설정 실패: " + beanName, e);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> {
+            Set<BulkheadDataSource> bulkheads = Collections.newSetFromMap(new IdentityHashMap<>());
+            dataSources.orderedStream()
+                    .filter(dataSource -> !(dataSource instanceof DelegatingDataSource))
+                    .forEach(dataSource -> {
+                        try {
+                            if (dataSource.isWrapperFor(BulkheadDataSource.class)) {
+                                bulkheads.add(dataSource.unwrap(BulkheadDataSource.class));
+                            }
+                        } catch (SQLException e) {
+                            throw new IllegalStateException("DataSource bulkhead 메트릭 등록 실패", e);
+                        }
+                    });
+            bulkheads.forEach(bulkhead -> bulkhead.bindTo(registry));
+        };
+    }
+}
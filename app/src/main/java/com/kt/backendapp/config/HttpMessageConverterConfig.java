@@ -0,0 +1,26 @@
+package com.kt.backendapp.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.kt.backendapp.dto.SaleSeriesResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+@Configuration
+public class HttpMessageConverterConfig {
+
+    // 기본 CBOR 컨버터를 대체: JSON 과 같은 Jackson 설정(날짜 ISO 문자열 등)을 쓰고 매출 시계열 미디어 타입도 처리
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        MappingJackson2CborHttpMessageConverter converter =
+                new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+        converter.setSupportedMediaTypes(List.of(
+                MediaType.APPLICATION_CBOR,
+                MediaType.parseMediaType(SaleSeriesResponse.CBOR_MEDIA_TYPE)));
+        return converter;
+    }
+}
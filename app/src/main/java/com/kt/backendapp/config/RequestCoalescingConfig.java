@@ -0,0 +1,23 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.cache.SingleFlight;
+import com.kt.backendapp.dto.SaleStatisticsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 같은 사용자 + 같은 데이터 버전으로 동시에 들어온 조회를 한 번의 DB 조회/직렬화로 처리 (키는 "userId|ETag")
+@Configuration
+public class RequestCoalescingConfig {
+
+    // 사용자 전체 매출 목록 JSON 응답 본문
+    @Bean
+    public SingleFlight<String, byte[]> salesResponseSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("sales-response", meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String, SaleStatisticsResponse> statisticsSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("sales-statistics", meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.outbox.InMemorySaleEventSink;
+import com.kt.backendapp.outbox.SaleEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SaleEventSinkConfig {
+
+    // 다른 SaleEventSink 빈(예: Kafka producer)이 등록되면 그것을 사용. 같은 JVM 구독자는 InMemorySaleEventSink 를 주입받아 subscribe
+    @Bean
+    @ConditionalOnMissingBean(SaleEventSink.class)
+    public InMemorySaleEventSink saleEventSink() {
+        return new InMemorySaleEventSink();
+    }
+}
@@ -0,0 +1,39 @@
+package com.kt.backendapp.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 조건부 GET 처리: ETag/Last-Modified 를 응답에 붙이고, 클라이언트 값과 같으면 true (304 는 Spring 이 설정)
+final class ConditionalRequests {
+    
+    // 응답을 저장하되 사용할 때마다 ETag 로 재검증하도록 (폴링 대시보드가 오래된 값을 쓰지 않게)
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    private ConditionalRequests() {
+    }
+    
+    static boolean notModified(ServletWebRequest request, String eTag, long lastModifiedMillis) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            // 매출 조회는 같은 URL 이 Accept 에 따라 다른 표현(행 목록 JSON / 열 지향 JSON / CBOR)을 돌려줌
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified(eTag, lastModifiedMillis);
+    }
+    
+    // 엔티티 id + updatedAt 으로 만든 약한 ETag (updatedAt 이 없으면 조건부 처리 안 함)
+    static boolean notModified(ServletWebRequest request, Object id, LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return false;
+        }
+        String eTag = "W/\"" + id + "-" + ChronoUnit.MICROS.between(EPOCH, updatedAt) + "\"";
+        return notModified(request, eTag, updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
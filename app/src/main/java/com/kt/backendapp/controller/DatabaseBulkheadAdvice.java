@@ -0,0 +1,53 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.datasource.BulkheadDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 요청 중 커넥션을 얻지 못해(BulkheadDataSource 거절) 컨트롤러가 실패 응답({"success": false, ...})을 만들면 500 대신 503 + Retry-After 로 바꿈
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseBulkheadAdvice implements ResponseBodyAdvice<Object> {
+    
+    private final long retryAfterSeconds;
+    
+    public DatabaseBulkheadAdvice(@Value("${app.bulkhead.retry-after:1s}") Duration retryAfter) {
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || servletRequest.getServletRequest().getAttribute(BulkheadDataSource.REJECTED_ATTRIBUTE) == null
+                || !(body instanceof Map<?, ?> map) || !Boolean.FALSE.equals(map.get("success"))) {
+            return body;
+        }
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        // processedCount 같은 나머지 항목은 그대로 둠
+        Map<Object, Object> rejected = new LinkedHashMap<>(map);
+        rejected.put("error", "요청이 많아 잠시 후 다시 시도해주세요");
+        return rejected;
+    }
+}
@@ -0,0 +1,103 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.dto.ReportJobResponse;
+import com.kt.backendapp.dto.ReportRequest;
+import com.kt.backendapp.report.ReportJob;
+import com.kt.backendapp.report.ReportStatus;
+import com.kt.backendapp.service.ReportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+// 보고서 작업: POST 로 등록(202) -> GET /{id} 로 상태 확인 -> 끝나면 GET /{id}/result 로 결과 파일 받기
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, allowCredentials = "true")
+public class ReportController {
+
+    // 대기열이 가득 찼을 때 다시 시도하라고 알려주는 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    public ResponseEntity<?> submitReport(@Valid @RequestBody ReportRequest request) {
+        try {
+            log.debug("보고서 작업 등록 요청: ownerId={}, type={}", request.getOwnerId(), request.getType());
+            ReportJobResponse response = reportJobService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reports/" + response.getId()))
+                    .body(Map.of("success", true, "data", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("보고서 작업 거절: ownerId={}, reason={}", request.getOwnerId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("보고서 작업 등록 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "보고서 작업 등록에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getReport(@PathVariable String jobId) {
+        Optional<ReportJobResponse> response = reportJobService.getJob(jobId);
+        if (response.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "error", "보고서 작업을 찾을 수 없습니다: " + jobId));
+        }
+        return ResponseEntity.ok(Map.of("success", true, "data", response.get()));
+    }
+
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<?> getReportResult(@PathVariable String jobId) {
+        Optional<ReportJob> found = reportJobService.findJob(jobId);
+        if (found.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("success", false, "error", "보고서 작업을 찾을 수 없습니다: " + jobId));
+        }
+        ReportJob job = found.get();
+        if (job.getStatus() == ReportStatus.FAILED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("success", false, "error", "보고서 생성에 실패했습니다: " + job.getError()));
+        }
+        if (job.getStatus() != ReportStatus.SUCCEEDED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("success", false, "error", "보고서가 아직 준비되지 않았습니다: " + job.getStatus()));
+        }
+        if (!Files.exists(job.getResultFile())) {
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(Map.of("success", false, "error", "보고서 결과 파일이 만료되었습니다: " + jobId));
+        }
+
+        // 파일을 그대로 흘려 보냄 (Range 요청도 처리됨)
+        String filename = "report-" + jobId + "." + job.getRequest().getType().extension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getRequest().getType().contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(job.getResultFile()));
+    }
+}
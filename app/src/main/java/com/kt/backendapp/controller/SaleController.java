@@ -1,36 +1,104 @@
 package com.kt.backendapp.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.cache.SingleFlight;
+import com.kt.backendapp.datasource.BulkheadDataSource;
+import com.kt.backendapp.dto.SaleAggregateResponse;
+import com.kt.backendapp.dto.SaleBatchResponse;
+import com.kt.backendapp.dto.SaleBenchmarkResponse;
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleForecastResponse;
+import com.kt.backendapp.dto.SaleGranularity;
+import com.kt.backendapp.dto.SaleImportProgress;
+import com.kt.backendapp.dto.SalePageResponse;
 import com.kt.backendapp.dto.SaleRequest;
 import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.dto.SaleSeriesResponse;
+import com.kt.backendapp.dto.SaleStatisticsResponse;
+import com.kt.backendapp.dto.SaleSummaryResponse;
+import com.kt.backendapp.service.SaleAnalyticsService;
+import com.kt.backendapp.service.SaleBenchmarkService;
+import com.kt.backendapp.service.SaleForecastService;
+import com.kt.backendapp.service.SaleQueryCacheService;
 import com.kt.backendapp.service.SaleService;
+import com.kt.backendapp.service.SaleStatisticsService;
+import com.kt.backendapp.service.SaleTransferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/sales")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, allowCredentials = "true")
 public class SaleController {
     
+    // JSON 배열 요청 한 번에 허용하는 최대 행 수 (그 이상은 NDJSON 스트리밍 사용)
+    private static final int MAX_BATCH_SIZE = 10_000;
+    
+    private static final int MAX_PAGE_SIZE = 500;
+    
+    // 스트리밍 응답에서 이 행 수마다 flush
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+    
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    
+    private static final MediaType XLSX = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    
+    // 열 지향 응답의 ETag 구분자 (JSON/CBOR 는 같은 내용이므로 하나로 둠)
+    private static final String SERIES_VARIANT = "series";
+    
     private final SaleService saleService;
     
+    private final SaleQueryCacheService saleQueryCacheService;
+    
+    private final SaleStatisticsService saleStatisticsService;
+    
+    private final SaleForecastService saleForecastService;
+    
+    private final SaleBenchmarkService saleBenchmarkService;
+    
+    private final SaleAnalyticsService saleAnalyticsService;
+    
+    private final SaleTransferService saleTransferService;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final SingleFlight<String, byte[]> salesResponseSingleFlight;
+    
+    private final SingleFlight<String, SaleStatisticsResponse> statisticsSingleFlight;
+    
     @PostMapping
     public ResponseEntity<?> createSale(@Valid @RequestBody SaleRequest request) {
         try {
-            log.info("매출 생성 요청: {}", request);
+            log.debug("매출 생성 요청: userId={}, date={}", request.getUserId(), request.getSaleDate());
             SaleResponse response = saleService.createSale(request);
             return ResponseEntity.ok(Map.of("success", true, "data", response));
         } catch (Exception e) {
@@ -40,12 +108,102 @@ public class SaleController {
         }
     }
     
+    // 배열 원소를 하나씩 읽다가 MAX_BATCH_SIZE 를 넘으면 나머지 본문은 읽지 않고 400 (큰 본문을 모두 파싱해 두지 않음)
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createSalesBatch(HttpServletRequest httpRequest) {
+        try (InputStream body = httpRequest.getInputStream();
+             MappingIterator<SaleRequest> elements = objectMapper.readerFor(SaleRequest.class).readValues(body)) {
+            List<SaleRequest> requests = new ArrayList<>();
+            while (elements.hasNextValue()) {
+                if (requests.size() == MAX_BATCH_SIZE) {
+                    return ResponseEntity.badRequest()
+                            .body(Map.of("success", false, "error",
+                                    "한 번에 최대 " + MAX_BATCH_SIZE + "건까지 저장할 수 있습니다. 대량 업로드는 NDJSON 형식을 사용하세요"));
+                }
+                requests.add(elements.nextValue());
+            }
+            log.debug("매출 일괄 생성 요청: count={}", requests.size());
+            SaleBatchResponse response = saleService.createSalesBatch(requests);
+            return ResponseEntity.ok(Map.of("success", true, "data", response));
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", "요청 본문을 읽을 수 없습니다: " + e.getOriginalMessage()));
+        } catch (Exception e) {
+            log.error("매출 일괄 생성 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "매출 일괄 생성에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    // 요청 본문을 한 줄씩 읽어 batch-size 행마다 별도 트랜잭션으로 저장
+    // 행마다 결과를 돌려주지 않고 CSV 가져오기처럼 건수 + 앞쪽 실패 행만 응답 (업로드 크기와 관계없이 응답/메모리 크기 일정)
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> createSalesBatchStream(HttpServletRequest httpRequest) {
+        long[] processed = {0};
+        try (InputStream body = httpRequest.getInputStream();
+             MappingIterator<SaleRequest> lines = objectMapper.readerFor(SaleRequest.class).readValues(body)) {
+            log.debug("매출 NDJSON 일괄 생성 요청");
+            SaleImportProgress result = saleTransferService.importRequests(lines,
+                    progress -> processed[0] = progress.getProcessedCount());
+            return ResponseEntity.ok(Map.of("success", true, "data", result));
+        } catch (Exception e) {
+            log.error("매출 NDJSON 일괄 생성 실패: processed={}", processed[0], e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false,
+                            "error", "매출 일괄 생성에 실패했습니다: " + e.getMessage(),
+                            "processedCount", processed[0]));
+        }
+    }
+    
+    // CSV 한 행씩 읽어 일정 행 수마다 저장 (user_id, sale_date, amount, store_name, business_type 헤더 필요)
+    // 응답은 NDJSON: 진행 상황 줄이 이어지고, 마지막 줄은 done=true 인 최종 결과 (도중 실패 시 success=false 줄)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> importSales(HttpServletRequest httpRequest) {
+        log.debug("매출 CSV 가져오기 요청: contentLength={}", httpRequest.getContentLengthLong());
+        // 큰 파일은 스트리밍 조회용 기본 비동기 제한 시간(spring.mvc.async.request-timeout)보다 오래 걸릴 수 있으므로 따로 지정
+        WebAsyncUtils.getAsyncManager(httpRequest).getAsyncWebRequest()
+                .setTimeout(saleTransferService.getImportTimeout().toMillis());
+        
+        StreamingResponseBody body = out -> {
+            long[] processed = {0};
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                try (InputStream in = httpRequest.getInputStream()) {
+                    saleTransferService.importCsv(in, progress -> {
+                        processed[0] = progress.getProcessedCount();
+                        writeLine(generator, progress);
+                    });
+                } catch (Exception e) {
+                    // 이미 응답이 시작되었을 수 있으므로 상태 코드 대신 마지막 줄로 알림
+                    log.error("매출 CSV 가져오기 실패: processed={}", processed[0], e);
+                    writeLine(generator, Map.of("success", false,
+                            "error", "매출 가져오기에 실패했습니다: " + e.getMessage(),
+                            "processedCount", processed[0]));
+                }
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    // ETag/Last-Modified 는 sale_statistics 의 건수 + 변경 시각으로 만들며, 변경이 없으면 매출 행을 읽지 않고 304
+    // 버전은 SaleQueryCacheService 가 사용자별로 들고 있으므로 캐시 적중 시에는 DB 커넥션을 쓰지 않음
     @GetMapping("/user/{userId}")
-    public ResponseEntity<?> getSalesByUserId(@PathVariable String userId) {
+    public ResponseEntity<?> getSalesByUserId(@PathVariable String userId, ServletWebRequest webRequest) {
         try {
-            log.info("사용자 매출 조회 요청: userId={}", userId);
-            List<SaleResponse> sales = saleService.getSalesByUserId(userId);
-            return ResponseEntity.ok(Map.of("success", true, "data", sales));
+            log.debug("사용자 매출 조회 요청: userId={}", userId);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag(), version.lastModifiedMillis())) {
+                return null;
+            }
+            // 같은 버전을 동시에 조회하는 요청들은 캐시 조회와 JSON 직렬화 결과(byte[])를 함께 씀
+            byte[] body = coalesce(salesResponseSingleFlight, userId + "|" + version.eTag(),
+                    () -> toJson(Map.of("success", true, "data", saleQueryCacheService.getSalesByUserId(userId, version))));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
         } catch (Exception e) {
             log.error("매출 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -53,14 +211,143 @@ public class SaleController {
         }
     }
     
+    // 같은 경로의 열 지향 표현 (Accept 로 선택). 본문 형식이 다르므로 ETag 에 표현 이름을 붙임
+    @GetMapping(value = "/user/{userId}", produces = {SaleSeriesResponse.JSON_MEDIA_TYPE, SaleSeriesResponse.CBOR_MEDIA_TYPE})
+    public ResponseEntity<?> getSalesSeriesByUserId(@PathVariable String userId, ServletWebRequest webRequest) {
+        try {
+            log.debug("사용자 매출 시계열 조회 요청: userId={}", userId);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag(SERIES_VARIANT), version.lastModifiedMillis())) {
+                return null;
+            }
+            List<SaleResponse> sales = saleQueryCacheService.getSalesByUserId(userId, version);
+            return ResponseEntity.ok(Map.of("success", true, "data", SaleSeriesResponse.from(userId, sales)));
+        } catch (Exception e) {
+            log.error("매출 시계열 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "매출 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<?> getSalesPage(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            log.debug("사용자 매출 페이지 조회 요청: userId={}, cursor={}, size={}", userId, cursor, size);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            SalePageResponse page = saleService.getSalesPageByUserId(userId, cursor, pageSize);
+            return ResponseEntity.ok(Map.of("success", true, "data", page));
+        } catch (IllegalArgumentException e) {
+            log.warn("매출 페이지 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("매출 페이지 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "매출 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    // 전체 이력을 메모리에 모으지 않고 DB 커서에서 바로 응답으로 씀 (format=json 이면 JSON 배열, ndjson 이면 한 줄에 한 건)
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamSales(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("사용자 매출 스트리밍 요청: userId={}, format={}", userId, format);
+        boolean ndjson = !"json".equalsIgnoreCase(format);
+        
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+                long[] written = {0};
+                saleService.streamSalesByUserId(userId, sale -> {
+                    try {
+                        generator.writeObject(sale);
+                        if (ndjson) {
+                            generator.writeRaw('\n');
+                        }
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            } catch (RuntimeException e) {
+                // 이미 응답이 시작되어 상태 코드를 바꿀 수 없으므로 로그만 남김
+                log.error("매출 스트리밍 실패: userId={}", userId, e);
+                throw e;
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    // 기간(기본: 전체)의 매출을 DB 커서에서 바로 CSV(UTF-8 BOM) 또는 XLSX 로 내려받음
+    @GetMapping("/user/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportSales(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("매출 내보내기 요청: userId={}, format={}, from={}, to={}", userId, format, from, to);
+        boolean xlsx = "xlsx".equalsIgnoreCase(format);
+        if (!xlsx && !"csv".equalsIgnoreCase(format)) {
+            return streamingError(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다: " + format + " (csv, xlsx)");
+        }
+        LocalDate startDate = from != null ? from : SaleTransferService.EXPORT_MIN_DATE;
+        LocalDate endDate = to != null ? to : SaleTransferService.EXPORT_MAX_DATE;
+        if (startDate.isAfter(endDate)) {
+            return streamingError(HttpStatus.BAD_REQUEST, "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        
+        StreamingResponseBody body = out -> {
+            try {
+                long count = xlsx
+                        ? saleTransferService.exportXlsx(userId, startDate, endDate, out)
+                        : saleTransferService.exportCsv(userId, startDate, endDate, out);
+                log.debug("매출 내보내기 완료: userId={}, format={}, count={}", userId, format, count);
+            } catch (IOException | RuntimeException e) {
+                // 이미 응답이 시작되어 상태 코드를 바꿀 수 없으므로 로그만 남김
+                log.error("매출 내보내기 실패: userId={}, format={}", userId, format, e);
+                throw e;
+            }
+        };
+        
+        String period = from == null && to == null ? "all" : (from != null ? from : "") + "_" + (to != null ? to : "");
+        String filename = "sales-" + period + (xlsx ? ".xlsx" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(xlsx ? XLSX : new MediaType(TEXT_CSV, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+    
     @GetMapping("/user/{userId}/range")
     public ResponseEntity<?> getSalesByDateRange(
             @PathVariable String userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            ServletWebRequest webRequest) {
         try {
-            log.info("기간별 매출 조회 요청: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
-            List<SaleResponse> sales = saleService.getSalesByUserIdAndDateRange(userId, startDate, endDate);
+            log.debug("기간별 매출 조회 요청: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag(), version.lastModifiedMillis())) {
+                return null;
+            }
+            List<SaleResponse> sales = saleQueryCacheService.getSalesByUserIdAndDateRange(userId, version, startDate, endDate);
             return ResponseEntity.ok(Map.of("success", true, "data", sales));
         } catch (Exception e) {
             log.error("기간별 매출 조회 실패", e);
@@ -69,13 +356,39 @@ public class SaleController {
         }
     }
     
+    @GetMapping(value = "/user/{userId}/range", produces = {SaleSeriesResponse.JSON_MEDIA_TYPE, SaleSeriesResponse.CBOR_MEDIA_TYPE})
+    public ResponseEntity<?> getSalesSeriesByDateRange(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            ServletWebRequest webRequest) {
+        try {
+            log.debug("기간별 매출 시계열 조회 요청: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag(SERIES_VARIANT), version.lastModifiedMillis())) {
+                return null;
+            }
+            List<SaleResponse> sales = saleQueryCacheService.getSalesByUserIdAndDateRange(userId, version, startDate, endDate);
+            return ResponseEntity.ok(Map.of("success", true, "data", SaleSeriesResponse.from(userId, sales)));
+        } catch (Exception e) {
+            log.error("기간별 매출 시계열 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "기간별 매출 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     @GetMapping("/user/{userId}/date/{date}")
     public ResponseEntity<?> getSaleByDate(
             @PathVariable String userId,
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest webRequest) {
         try {
-            log.info("특정 날짜 매출 조회 요청: userId={}, date={}", userId, date);
-            Optional<SaleResponse> sale = saleService.getSaleByUserIdAndDate(userId, date);
+            log.debug("특정 날짜 매출 조회 요청: userId={}, date={}", userId, date);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag(), version.lastModifiedMillis())) {
+                return null;
+            }
+            Optional<SaleResponse> sale = saleQueryCacheService.getSaleByUserIdAndDate(userId, version, date);
             
             if (sale.isPresent()) {
                 return ResponseEntity.ok(Map.of("success", true, "data", sale.get()));
@@ -90,19 +403,16 @@ public class SaleController {
     }
     
     @GetMapping("/user/{userId}/statistics")
-    public ResponseEntity<?> getSalesStatistics(@PathVariable String userId) {
+    public ResponseEntity<?> getSalesStatistics(@PathVariable String userId, ServletWebRequest webRequest) {
         try {
-            log.info("매출 통계 조회 요청: userId={}", userId);
-            
-            BigDecimal totalSales = saleService.getTotalSales(userId);
-            BigDecimal averageSales = saleService.getAverageSales(userId);
-            Long salesCount = saleService.getSalesCount(userId);
-            
-            Map<String, Object> statistics = new HashMap<>();
-            statistics.put("totalSales", totalSales);
-            statistics.put("averageSales", averageSales);
-            statistics.put("salesCount", salesCount);
+            log.debug("매출 통계 조회 요청: userId={}", userId);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag(), version.lastModifiedMillis())) {
+                return null;
+            }
             
+            SaleStatisticsResponse statistics = coalesce(statisticsSingleFlight, userId + "|" + version.eTag(),
+                    () -> saleStatisticsService.getStatistics(userId));
             return ResponseEntity.ok(Map.of("success", true, "data", statistics));
         } catch (Exception e) {
             log.error("매출 통계 조회 실패", e);
@@ -111,10 +421,101 @@ public class SaleController {
         }
     }
     
+    // 내일부터 days 일간 예상 매출. 오늘 날짜가 포함된 버전으로 ETag 를 만들고 결과는 다음 매출 변경 또는 날짜가 바뀔 때까지 캐시
+    @GetMapping("/user/{userId}/forecast")
+    public ResponseEntity<?> getSalesForecast(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "7") int days,
+            ServletWebRequest webRequest) {
+        try {
+            log.debug("매출 예측 조회 요청: userId={}, days={}", userId, days);
+            SaleDataVersion version = saleQueryCacheService.getDataVersionAsOfToday(userId);
+            if (ConditionalRequests.notModified(webRequest, version.eTag("forecast-" + days), version.lastModifiedMillis())) {
+                return null;
+            }
+            SaleForecastResponse forecast = saleForecastService.getForecast(userId, version, days);
+            return ResponseEntity.ok(Map.of("success", true, "data", forecast));
+        } catch (IllegalArgumentException e) {
+            log.warn("매출 예측 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("매출 예측 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "매출 예측 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    // 같은 업종 매장들 사이에서 최근 일 평균 매출/지난달 매출의 백분위 (분포는 주기적으로 만든 스케치에서 읽음)
+    @GetMapping("/user/{userId}/benchmark")
+    public ResponseEntity<?> getSalesBenchmark(@PathVariable String userId) {
+        try {
+            log.debug("업종별 매출 비교 요청: userId={}", userId);
+            Optional<SaleBenchmarkResponse> benchmark = saleBenchmarkService.getBenchmark(userId);
+            if (benchmark.isPresent()) {
+                return ResponseEntity.ok(Map.of("success", true, "data", benchmark.get()));
+            } else {
+                return ResponseEntity.ok(Map.of("success", true, "message", "최근 매출이 없어 업종 비교를 할 수 없습니다"));
+            }
+        } catch (IllegalStateException e) {
+            log.warn("업종별 매출 비교 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("업종별 매출 비교 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "업종별 매출 비교에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/user/{userId}/aggregate")
+    public ResponseEntity<?> getSalesAggregate(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            log.debug("기간별 매출 집계 요청: userId={}, granularity={}, from={}, to={}", userId, granularity, from, to);
+            List<SaleAggregateResponse> buckets = saleService.getSalesAggregate(
+                    userId, SaleGranularity.from(granularity), from, to);
+            return ResponseEntity.ok(Map.of("success", true, "data", buckets));
+        } catch (IllegalArgumentException e) {
+            log.warn("매출 집계 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("기간별 매출 집계 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "기간별 매출 집계에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    // 기간 합계/평균, 요일별 합계, 최고/최저 매출일
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<?> getSalesSummary(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            log.debug("기간 매출 요약 요청: userId={}, from={}, to={}", userId, from, to);
+            SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+            SaleSummaryResponse summary = saleAnalyticsService.getSummary(userId, version, from, to);
+            return ResponseEntity.ok(Map.of("success", true, "data", summary));
+        } catch (IllegalArgumentException e) {
+            log.warn("매출 요약 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("기간 매출 요약 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("success", false, "error", "기간 매출 요약에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     @DeleteMapping("/{saleId}/user/{userId}")
     public ResponseEntity<?> deleteSale(@PathVariable Long saleId, @PathVariable String userId) {
         try {
-            log.info("매출 삭제 요청: saleId={}, userId={}", saleId, userId);
+            log.debug("매출 삭제 요청: saleId={}, userId={}", saleId, userId);
             saleService.deleteSale(saleId, userId);
             return ResponseEntity.ok(Map.of("success", true, "message", "매출 데이터가 삭제되었습니다"));
         } catch (IllegalArgumentException e) {
@@ -131,17 +532,61 @@ public class SaleController {
     @PutMapping("/{saleId}/user/{userId}")
     public ResponseEntity<?> updateSale(@PathVariable Long saleId, @PathVariable String userId, @Valid @RequestBody SaleRequest request) {
         try {
-            log.info("매출 수정 요청: saleId={}, userId={}, request={}", saleId, userId, request);
+            log.debug("매출 수정 요청: saleId={}, userId={}, date={}", saleId, userId, request.getSaleDate());
             SaleResponse response = saleService.updateSale(saleId, userId, request);
             return ResponseEntity.ok(Map.of("success", true, "data", response));
         } catch (IllegalArgumentException e) {
             log.warn("매출 수정 권한 없음", e);
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("success", false, "error", e.getMessage()));
+        } catch (DataIntegrityViolationException e) {
+            // 사전 확인을 지나친 경우의 안전망 (제약 메시지는 응답에 싣지 않음)
+            log.warn("매출 수정 제약 위반: saleId={}, userId={}", saleId, userId, e);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("success", false, "error", "해당 날짜의 매출이 이미 있습니다."));
         } catch (Exception e) {
             log.error("매출 수정 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("success", false, "error", "매출 수정에 실패했습니다: " + e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+    
+    // StreamingResponseBody 를 반환하는 엔드포인트의 오류 응답 (다른 엔드포인트와 같은 JSON 형식)
+    private ResponseEntity<StreamingResponseBody> streamingError(HttpStatus status, String message) {
+        byte[] body = toJson(Map.of("success", false, "error", message));
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(body));
+    }
+    
+    private void writeLine(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // 함께 받은 실패가 커넥션 거절이면 이 요청도 DatabaseBulkheadAdvice 가 503 으로 바꾸도록 표시
+    private static <V> V coalesce(SingleFlight<String, V> singleFlight, String key, Supplier<V> loader) {
+        try {
+            return singleFlight.execute(key, loader);
+        } catch (RuntimeException e) {
+            BulkheadDataSource.markRequestIfRejected(e);
+            throw e;
+        }
+    }
+    
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
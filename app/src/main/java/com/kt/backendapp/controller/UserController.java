@@ -2,12 +2,14 @@ package com.kt.backendapp.controller;
 
 import com.kt.backendapp.dto.UserResponse;
 import com.kt.backendapp.dto.UserUpdateRequest;
+import com.kt.backendapp.service.UserQueryCacheService;
 import com.kt.backendapp.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import jakarta.validation.Valid;
 import java.util.Map;
@@ -17,19 +19,25 @@ import java.util.Optional;
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, allowCredentials = "true")
 public class UserController {
     
     private final UserService userService;
     
+    private final UserQueryCacheService userQueryCacheService;
+    
     @GetMapping("/{email}")
-    public ResponseEntity<?> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<?> getUserByEmail(@PathVariable String email, ServletWebRequest webRequest) {
         try {
-            log.info("사용자 정보 조회 요청: email={}", email);
+            log.debug("사용자 정보 조회 요청: email={}", email);
             
-            Optional<UserResponse> user = userService.getUserByEmail(email);
+            Optional<UserResponse> user = userQueryCacheService.getUserByEmail(email);
             
             if (user.isPresent()) {
+                // 사용자 정보는 캐시에서 오므로 조회 비용보다 본문 전송을 줄이는 목적
+                if (ConditionalRequests.notModified(webRequest, user.get().getId(), user.get().getUpdatedAt())) {
+                    return null;
+                }
                 return ResponseEntity.ok(Map.of("success", true, "data", user.get()));
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -45,7 +53,7 @@ public class UserController {
     @PutMapping("/{email}")
     public ResponseEntity<?> updateUser(@PathVariable String email, @Valid @RequestBody UserUpdateRequest request) {
         try {
-            log.info("사용자 정보 수정 요청: email={}, name={}, storeName={}", email, request.getName(), request.getStoreName());
+            log.debug("사용자 정보 수정 요청: email={}, name={}, storeName={}", email, request.getName(), request.getStoreName());
             
             Optional<UserResponse> updatedUser = userService.updateUser(email, request);
             
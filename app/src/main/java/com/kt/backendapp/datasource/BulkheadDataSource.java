@@ -0,0 +1,204 @@
+package com.kt.backendapp.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+// 커넥션 풀 앞의 bulkhead. 풀 크기만큼의 허용 수를 getConnection 에서 잡고 Connection.close() 에서 반납하므로 실제로 커넥션을 쓰는 동안만 차지함
+// (캐시 적중 요청은 잡지 않고, 업로드/스트리밍은 저장·조회 트랜잭션 동안만 잡음)
+// 요청 스레드는 request-wait 안에 자리가 나지 않으면 풀에서 오래 기다리는 대신 바로 실패하고, 요청에 REJECTED_ATTRIBUTE 를 남겨 503 으로 응답하게 함
+// 요청 밖의 작업(보고서 워커, 매출 예측 학습, outbox 릴레이, 통계 재집계, 파티션 유지, 업종 벤치마크 재계산, replica 지연 확인, 스트리밍 응답 스레드)도
+// 같은 허용 수를 쓰지만 풀의 connection-timeout 까지 기다림
+@Slf4j
+public class BulkheadDataSource implements DataSource, Closeable, MeterBinder {
+
+    public static final String REJECTED_ATTRIBUTE = BulkheadDataSource.class.getName() + ".REJECTED";
+
+    private final DataSource target;
+
+    private final String poolName;
+
+    private final Semaphore permits;
+
+    private final long requestWaitNanos;
+
+    private final long backgroundWaitNanos;
+
+    // bindTo 전에는 null
+    private volatile Counter rejectedCounter;
+
+    public BulkheadDataSource(DataSource target, String poolName, int maxConnections,
+                              Duration requestWait, Duration backgroundWait) {
+        this.target = target;
+        this.poolName = poolName;
+        this.permits = new Semaphore(maxConnections, true);
+        this.requestWaitNanos = requestWait.toNanos();
+        this.backgroundWaitNanos = backgroundWait.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(target.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(target.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rejectedCounter = Counter.builder("app.bulkhead.rejected")
+                .description("커넥션 풀 포화로 거절된 커넥션 요청 수")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("app.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("남은 커넥션 허용 수")
+                .tag("pool", poolName)
+                .register(registry);
+    }
+
+    // 요청 합치기(SingleFlight)로 다른 요청의 실행 결과를 받은 요청은 getConnection 을 직접 부르지 않으므로,
+    // 공유 실행이 커넥션 거절로 실패했으면 받은 쪽 요청에도 REJECTED_ATTRIBUTE 를 남겨 똑같이 503 으로 응답하게 함
+    public static void markRequestIfRejected(Throwable failure) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                request.setAttribute(REJECTED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+                return;
+            }
+        }
+    }
+
+    private void acquire() throws SQLException {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(request != null ? requestWaitNanos : backgroundWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(poolName + " 커넥션 대기 중 인터럽트", e);
+        }
+        if (acquired) {
+            return;
+        }
+        Counter counter = rejectedCounter;
+        if (counter != null) {
+            counter.increment();
+        }
+        if (request != null) {
+            request.setAttribute(REJECTED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        log.warn("커넥션 요청 거절 - 커넥션 풀 포화: pool={}, request={}", poolName, request != null);
+        throw new SQLTransientConnectionException(poolName + " 커넥션 풀이 포화 상태입니다");
+    }
+
+    // 풀 커넥션의 close() 가 처음 불릴 때 한 번만 반납
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "getTargetConnection" -> connection;
+                    case "close" -> {
+                        try {
+                            yield invoke(connection, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (target instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : target.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || target.isWrapperFor(iface);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return target.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        target.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        target.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return target.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return target.getParentLogger();
+    }
+}
@@ -0,0 +1,23 @@
+package com.kt.backendapp.datasource;
+
+// 현재 스레드(요청)의 읽기 전용 트랜잭션도 primary 로 보내야 하는지 여부.
+// 쓰기 요청 자체와, 쓰기 직후 sticky 기간 안의 요청에서 ReadYourWritesFilter 가 설정
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
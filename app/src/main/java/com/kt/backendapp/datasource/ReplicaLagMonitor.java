@@ -0,0 +1,107 @@
+package com.kt.backendapp.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// replica 의 복제 지연을 주기적으로 확인. 지연이 max-lag 을 넘거나 확인에 실패하면 읽기도 primary 로 보냄
+// 다른 스케줄 작업(예측 학습, 통계 재집계 등)에 밀리지 않도록 전용 스레드에서 확인하고,
+// 그래도 마지막 성공한 확인이 lag-check-interval x STALE_CHECKS 보다 오래되면 지연을 모르는 것으로 보고 primary 사용
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // 복구(standby) 중이 아니면 primary 와 같은 DB 이므로 0. WAL 을 모두 반영했으면 마지막 반영 시각과 관계없이 0
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private static final int STALE_CHECKS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final double maxLagSeconds;
+
+    private final Duration checkInterval;
+
+    private final long staleAfterNanos;
+
+    private final ScheduledExecutorService scheduler;
+
+    // 첫 확인 전에는 primary 사용
+    private volatile boolean available;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    private volatile boolean failing;
+
+    // 마지막으로 지연 확인에 성공한 시각 (System.nanoTime)
+    private volatile long checkedAtNanos;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.jdbcTemplate.setQueryTimeout(2);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        this.staleAfterNanos = checkInterval.multipliedBy(STALE_CHECKS).toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon(true).factory());
+        Gauge.builder("app.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("replica 복제 지연 (초, 확인 실패 시 NaN)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("app.datasource.replica.available", this, monitor -> monitor.isReplicaAvailable() ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 replica 로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available && System.nanoTime() - checkedAtNanos <= staleAfterNanos;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public void check() {
+        boolean wasAvailable = available;
+        try {
+            Double lag = jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag == null ? 0 : lag;
+            available = lagSeconds <= maxLagSeconds;
+            checkedAtNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            // DataAccessException 외의 예외로 전용 스레드의 반복 실행이 멈추지 않도록 모두 잡음
+            lagSeconds = Double.NaN;
+            available = false;
+            if (!failing) {
+                failing = true;
+                log.warn("replica 지연 확인 실패 - 읽기를 primary 로 전환: {}", e.getMessage());
+            }
+            return;
+        }
+        failing = false;
+        if (wasAvailable != available) {
+            log.info("replica 읽기 {}: lagSeconds={}, maxLagSeconds={}",
+                    available ? "사용" : "중단 (지연 초과)", lagSeconds, maxLagSeconds);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.kt.backendapp.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// @Transactional(readOnly = true) 는 replica, 그 외는 primary 로 보냄.
+// 트랜잭션 시작 후 실제 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 readOnly 여부가 반영됨
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter writes;
+
+    private final Counter replicaReads;
+
+    private final Counter stickyReads;
+
+    private final Counter lagFallbackReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.writes = routingCounter(meterRegistry, Target.PRIMARY, "write");
+        this.replicaReads = routingCounter(meterRegistry, Target.REPLICA, "read");
+        this.stickyReads = routingCounter(meterRegistry, Target.PRIMARY, "read-your-writes");
+        this.lagFallbackReads = routingCounter(meterRegistry, Target.PRIMARY, "replica-unavailable");
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return Target.PRIMARY;
+        }
+        if (ReadYourWrites.isPrimaryRequired()) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            lagFallbackReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("app.datasource.routing")
+                .description("라우팅 DataSource 가 커넥션을 보낸 대상별 횟수")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.kt.backendapp.dto;
+
+import com.kt.backendapp.report.ReportPriority;
+import com.kt.backendapp.report.ReportStatus;
+import com.kt.backendapp.report.ReportType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJobResponse {
+    
+    private String id;
+    
+    private ReportType type;
+    
+    private ReportPriority priority;
+    
+    private String ownerId;
+    
+    private ReportStatus status;
+    
+    // 같은 요청이 이미 대기/실행 중이어서 기존 작업을 돌려준 경우 true
+    private boolean deduplicated;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+    
+    // SUCCEEDED 일 때 결과 파일 크기 (바이트)
+    private Long resultSize;
+    
+    private String error;
+}
@@ -0,0 +1,42 @@
+package com.kt.backendapp.dto;
+
+import com.kt.backendapp.report.ReportPriority;
+import com.kt.backendapp.report.ReportType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportRequest {
+    
+    // 작업을 요청한 점주(가맹 본부 포함). 대기열 공정성과 한도는 이 값 기준
+    @NotBlank(message = "요청자 ID는 필수입니다")
+    private String ownerId;
+    
+    @NotNull(message = "보고서 종류는 필수입니다")
+    private ReportType type;
+    
+    // 생략하면 NORMAL
+    private ReportPriority priority;
+    
+    @NotEmpty(message = "매장(userId) 목록은 필수입니다")
+    private List<String> userIds;
+    
+    // SALES_BREAKDOWN 은 필수, SALES_EXPORT 는 생략하면 전체 기간
+    private LocalDate from;
+    
+    private LocalDate to;
+    
+    // SALES_BREAKDOWN 집계 단위 (day/week/month/year, 생략하면 month)
+    private String granularity;
+}
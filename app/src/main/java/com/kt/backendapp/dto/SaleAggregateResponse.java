@@ -0,0 +1,29 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleAggregateResponse {
+    
+    // 구간 시작일 (week 는 월요일, month 는 1일, year 는 1월 1일)
+    private LocalDate bucket;
+    
+    private BigDecimal totalSales;
+    
+    private BigDecimal averageSales;
+    
+    private Long salesCount;
+    
+    private BigDecimal minSales;
+    
+    private BigDecimal maxSales;
+}
@@ -0,0 +1,36 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleBatchItemResult {
+    
+    public enum Status {
+        INSERTED,
+        UPDATED,
+        // 같은 배치 안에서 뒤에 오는 동일 (userId, saleDate) 행에 의해 덮어써짐
+        SUPERSEDED,
+        INVALID
+    }
+    
+    private int index;
+    
+    private Status status;
+    
+    private Long id;
+    
+    private String userId;
+    
+    private LocalDate saleDate;
+    
+    private List<String> errors;
+}
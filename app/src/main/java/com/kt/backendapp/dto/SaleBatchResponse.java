@@ -0,0 +1,46 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleBatchResponse {
+    
+    private int totalCount;
+    
+    private int insertedCount;
+    
+    private int updatedCount;
+    
+    private int failedCount;
+    
+    private List<SaleBatchItemResult> results;
+    
+    public static SaleBatchResponse of(List<SaleBatchItemResult> results) {
+        int inserted = 0;
+        int updated = 0;
+        int failed = 0;
+        for (SaleBatchItemResult result : results) {
+            switch (result.getStatus()) {
+                case INSERTED -> inserted++;
+                case UPDATED -> updated++;
+                case INVALID -> failed++;
+                default -> { }
+            }
+        }
+        return SaleBatchResponse.builder()
+                .totalCount(results.size())
+                .insertedCount(inserted)
+                .updatedCount(updated)
+                .failedCount(failed)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleBenchmarkResponse {
+    
+    private String userId;
+    
+    private String businessType;
+    
+    // 비교 분포를 만든 시각 (app.benchmark.rebuild-interval 마다 갱신)
+    private LocalDateTime builtAt;
+    
+    // 최근 기간의 일 평균 매출 (매출이 있는 날 기준)
+    private Metric daily;
+    
+    // 지난달 매출 합계
+    private Metric monthly;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Metric {
+        
+        private LocalDate from;
+        
+        private LocalDate to;
+        
+        // 같은 업종에서 이 기간 매출이 있는 매장 수
+        private long storeCount;
+        
+        // 이 매장의 값과 업종 내 백분위(0 ~ 100, 이 값 이하인 매장 비율). 기간 내 매출이 없으면 null
+        private BigDecimal value;
+        
+        private BigDecimal percentile;
+        
+        private BigDecimal p25;
+        
+        private BigDecimal median;
+        
+        private BigDecimal p75;
+        
+        private BigDecimal p90;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kt.backendapp.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 사용자 매출 데이터 버전 (sale_statistics 의 건수 + 마지막 변경 시각). 조건부 GET 의 ETag/Last-Modified 와 조회 캐시 키에 사용
+// asOf 는 오늘 날짜에 따라 결과가 달라지는 응답(매출 예측)에서만 지정
+public record SaleDataVersion(long saleCount, LocalDateTime updatedAt, LocalDate asOf) {
+    
+    public static final SaleDataVersion EMPTY = new SaleDataVersion(0, null, null);
+    
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    public SaleDataVersion asOf(LocalDate date) {
+        return new SaleDataVersion(saleCount, updatedAt, date);
+    }
+    
+    public String eTag() {
+        return eTag(null);
+    }
+    
+    // 같은 데이터의 다른 표현(열 지향 응답 등)은 variant 로 구분
+    public String eTag(String variant) {
+        long micros = updatedAt == null ? 0 : ChronoUnit.MICROS.between(EPOCH, updatedAt);
+        return "W/\"" + saleCount + "-" + micros + (asOf == null ? "" : "-" + asOf)
+                + (variant == null ? "" : "-" + variant) + "\"";
+    }
+    
+    // 알 수 없으면 -1 (Last-Modified 헤더 생략)
+    public long lastModifiedMillis() {
+        LocalDateTime lastModified = updatedAt;
+        if (asOf != null && (lastModified == null || lastModified.isBefore(asOf.atStartOfDay()))) {
+            lastModified = asOf.atStartOfDay();
+        }
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
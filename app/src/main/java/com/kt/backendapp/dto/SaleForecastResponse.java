@@ -0,0 +1,42 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleForecastResponse {
+    
+    private String userId;
+    
+    // 이 날짜까지의 매출이 모델에 반영됨. observations 는 학습에 쓰인 (매출이 있는) 일수
+    private LocalDate trainedThrough;
+    
+    private int observations;
+    
+    private List<Day> days;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+        
+        private LocalDate date;
+        
+        private BigDecimal expectedSales;
+        
+        // 최근 예측 오차 기준 대략 95% 구간
+        private BigDecimal lowerBound;
+        
+        private BigDecimal upperBound;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kt.backendapp.dto;
+
+import java.util.Locale;
+
+// 집계 단위. name() 을 소문자로 바꾼 값이 PostgreSQL date_trunc 의 단위와 같음
+public enum SaleGranularity {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR;
+    
+    public String dateTruncUnit() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+    
+    public static SaleGranularity from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 집계 단위입니다: " + value + " (day, week, month, year 중 선택)");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+// CSV 가져오기 진행 상황 (NDJSON 응답의 한 줄). done 이 true 인 마지막 줄에만 errors 가 들어감
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleImportProgress {
+    
+    private boolean done;
+    
+    private long processedCount;
+    
+    private long insertedCount;
+    
+    private long updatedCount;
+    
+    // 파일 안에서 뒤에 오는 같은 (userId, saleDate) 행에 의해 덮어써짐
+    private long supersededCount;
+    
+    private long failedCount;
+    
+    // 실패한 행 중 앞쪽 일부 (index 는 헤더를 뺀 1부터 시작하는 행 번호)
+    private List<SaleBatchItemResult> errors;
+}
@@ -0,0 +1,24 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalePageResponse {
+    
+    private List<SaleResponse> content;
+    
+    private int size;
+    
+    private boolean hasNext;
+    
+    // 다음 페이지 조회 시 cursor 파라미터로 그대로 전달
+    private String nextCursor;
+}
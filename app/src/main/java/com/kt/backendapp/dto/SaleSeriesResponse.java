@@ -0,0 +1,69 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+
+// 차트용 열 지향 매출 시계열. 행마다 반복되던 사용자/매장 정보는 한 번만 담고, 날짜와 금액은 같은 순서의 배열로 전달
+// Accept: application/vnd.sajangez.sales-series+json 또는 +cbor 로 요청
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleSeriesResponse {
+
+    public static final String JSON_MEDIA_TYPE = "application/vnd.sajangez.sales-series+json";
+
+    public static final String CBOR_MEDIA_TYPE = "application/vnd.sajangez.sales-series+cbor";
+
+    // sales.amount 컬럼의 소수 자릿수 (numeric(15, 2))
+    private static final int AMOUNT_SCALE = 2;
+
+    private String userId;
+
+    // 가장 최근 매출 행의 매장명/업종
+    private String storeName;
+
+    private String businessType;
+
+    private LocalDate startDate;
+
+    // startDate 로부터의 일수 (오름차순)
+    private int[] days;
+
+    // 금액 x 10^amountScale (예: 12345.60 -> 1234560)
+    private int amountScale;
+
+    private long[] amounts;
+
+    public static SaleSeriesResponse from(String userId, List<SaleResponse> sales) {
+        List<SaleResponse> sorted = sales.stream()
+                .sorted(Comparator.comparing(SaleResponse::getSaleDate))
+                .toList();
+        LocalDate startDate = sorted.isEmpty() ? null : sorted.get(0).getSaleDate();
+        int[] days = new int[sorted.size()];
+        long[] amounts = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            SaleResponse sale = sorted.get(i);
+            days[i] = (int) ChronoUnit.DAYS.between(startDate, sale.getSaleDate());
+            amounts[i] = sale.getAmount().setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        }
+        SaleResponse latest = sorted.isEmpty() ? null : sorted.get(sorted.size() - 1);
+        return SaleSeriesResponse.builder()
+                .userId(userId)
+                .storeName(latest == null ? null : latest.getStoreName())
+                .businessType(latest == null ? null : latest.getBusinessType())
+                .startDate(startDate)
+                .days(days)
+                .amountScale(AMOUNT_SCALE)
+                .amounts(amounts)
+                .build();
+    }
+}
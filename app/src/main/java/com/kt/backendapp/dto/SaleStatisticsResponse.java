@@ -0,0 +1,28 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleStatisticsResponse {
+    
+    private BigDecimal totalSales;
+    
+    private BigDecimal averageSales;
+    
+    private Long salesCount;
+    
+    private BigDecimal minSales;
+    
+    private BigDecimal maxSales;
+    
+    private LocalDate lastSaleDate;
+}
@@ -0,0 +1,62 @@
+package com.kt.backendapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleSummaryResponse {
+    
+    private String userId;
+    
+    private LocalDate from;
+    
+    private LocalDate to;
+    
+    private long salesCount;
+    
+    private BigDecimal totalSales;
+    
+    // 매출이 있는 날 기준 평균. 매출이 없으면 null
+    private BigDecimal averageSales;
+    
+    // 월요일부터 일요일까지 7개
+    private List<Weekday> weekdays;
+    
+    private Day bestDay;
+    
+    private Day worstDay;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Weekday {
+        
+        private DayOfWeek dayOfWeek;
+        
+        private long salesCount;
+        
+        private BigDecimal totalSales;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+        
+        private LocalDate date;
+        
+        private BigDecimal amount;
+    }
+}
@@ -11,7 +11,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sales")
+@Table(
+        name = "sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_user_id_sale_date", columnNames = {"user_id", "sale_date"})
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,43 @@
+package com.kt.backendapp.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 사용자별 매출 누적 집계. SaleService 의 쓰기 경로에서 같은 트랜잭션으로 갱신된다.
+@Entity
+@Table(name = "sale_statistics")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleStatistics {
+    
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+    
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(name = "sale_count", nullable = false)
+    private Long saleCount;
+    
+    @Column(name = "min_amount", precision = 15, scale = 2)
+    private BigDecimal minAmount;
+    
+    @Column(name = "max_amount", precision = 15, scale = 2)
+    private BigDecimal maxAmount;
+    
+    @Column(name = "last_sale_date")
+    private LocalDate lastSaleDate;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
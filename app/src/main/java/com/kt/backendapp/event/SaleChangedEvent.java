@@ -0,0 +1,10 @@
+package com.kt.backendapp.event;
+
+// 매출 데이터가 생성/수정/삭제되었음을 알리는 이벤트 (트랜잭션 커밋 후 처리)
+// changes 는 바뀐 일별 금액을 알 때만 담고(null 이면 사용자 데이터 전체가 바뀐 것으로 봄), 열 지향 분석 저장소가 다시 적재하지 않고 반영하는 데 씀
+public record SaleChangedEvent(String userId, SaleDayChanges changes) {
+
+    public SaleChangedEvent(String userId) {
+        this(userId, null);
+    }
+}
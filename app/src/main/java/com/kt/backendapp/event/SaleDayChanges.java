@@ -0,0 +1,12 @@
+package com.kt.backendapp.event;
+
+import com.kt.backendapp.dto.SaleDataVersion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+// 한 쓰기 트랜잭션이 바꾼 사용자 일별 매출 (금액이 null 이면 그 날짜 매출 삭제)
+// before/after 는 사용자 잠금 안에서 읽은 변경 전/후 데이터 버전이므로, before 버전의 데이터에 amounts 를 반영하면 정확히 after 버전이 됨
+public record SaleDayChanges(SaleDataVersion before, SaleDataVersion after, Map<LocalDate, BigDecimal> amounts) {
+}
@@ -0,0 +1,5 @@
+package com.kt.backendapp.event;
+
+// 사용자 정보가 수정되었음을 알리는 이벤트 (트랜잭션 커밋 후 처리)
+public record UserChangedEvent(String email) {
+}
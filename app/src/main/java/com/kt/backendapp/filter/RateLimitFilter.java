@@ -0,0 +1,161 @@
+package com.kt.backendapp.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 클라이언트 IP 별, (클라이언트 IP, 경로의 userId(이메일)) 별 토큰 버킷으로 /api 요청 속도를 제한하고 초과분은 429 + Retry-After 로 거절
+// 한 클라이언트가 같은 사용자를 계속 조회해서 커넥션 풀(bulkhead)을 다 차지하지 않도록 컨트롤러보다 먼저 적용
+// 사용자 버킷에 IP 를 함께 넣어, 다른 클라이언트가 어떤 사용자 경로를 계속 호출해도 그 사용자 본인의 요청까지 막히지 않게 함
+// (그래서 한 userId 를 여러 IP 에서 나눠 호출하면 사용자 단위로는 제한되지 않고 IP 별 한도만 적용됨)
+// 이 필터는 MVC 의 @CrossOrigin 처리보다 먼저 응답하므로, 429 에는 해당 핸들러의 CORS 설정으로 헤더를 직접 붙임 (없으면 브라우저가 상태/Retry-After 를 못 봄)
+// CORS preflight(OPTIONS) 는 세지 않음
+// 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 getRemoteAddr 가 실제 클라이언트 IP 가 됨
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // /api/sales/user/{userId}/..., /api/sales/{saleId}/user/{userId}, /api/users/{email}
+    private static final Pattern USER_PATH = Pattern.compile("^/api/(?:sales(?:/\\d+)?/user|users)/([^/]+)");
+
+    // 쓰지 않는 버킷은 이 시간이 지나면 버림 (그 사이 버킷은 이미 가득 차 있으므로 새로 만들어도 결과가 같음)
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+
+    private final Limit userLimit;
+
+    private final Limit ipLimit;
+
+    private final ObjectMapper objectMapper;
+
+    private final CorsConfigurationSource corsConfigurationSource;
+
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    public RateLimitFilter(
+            @Value("${app.rate-limit.user.requests-per-second:10}") double userRequestsPerSecond,
+            @Value("${app.rate-limit.user.burst:20}") int userBurst,
+            @Value("${app.rate-limit.ip.requests-per-second:50}") double ipRequestsPerSecond,
+            @Value("${app.rate-limit.ip.burst:100}") int ipBurst,
+            @Value("${app.rate-limit.max-tracked-keys:100000}") long maxTrackedKeys,
+            ObjectMapper objectMapper,
+            @Qualifier("mvcHandlerMappingIntrospector") CorsConfigurationSource corsConfigurationSource,
+            MeterRegistry meterRegistry) {
+        this.userLimit = new Limit("user", userRequestsPerSecond, userBurst, maxTrackedKeys, meterRegistry);
+        this.ipLimit = new Limit("ip", ipRequestsPerSecond, ipBurst, maxTrackedKeys, meterRegistry);
+        this.objectMapper = objectMapper;
+        this.corsConfigurationSource = corsConfigurationSource;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/") || CorsUtils.isPreFlightRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        String remoteAddr = request.getRemoteAddr();
+        long waitNanos = ipLimit.tryConsume(remoteAddr, now);
+        Limit exceeded = ipLimit;
+        if (waitNanos == 0) {
+            String userId = userId(request);
+            if (userId != null) {
+                waitNanos = userLimit.tryConsume(remoteAddr + " " + userId, now);
+                exceeded = userLimit;
+            }
+        }
+        if (waitNanos > 0) {
+            reject(request, response, exceeded, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String userId(HttpServletRequest request) {
+        Matcher matcher = USER_PATH.matcher(request.getRequestURI());
+        return matcher.find() ? URLDecoder.decode(matcher.group(1), StandardCharsets.UTF_8) : null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Limit limit, long waitNanos)
+            throws IOException {
+        limit.throttledCounter.increment();
+        log.warn("요청 거절 - 요청 속도 초과: key={}, method={}, uri={}, remoteAddr={}",
+                limit.name, request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        CorsConfiguration cors = corsConfigurationSource.getCorsConfiguration(request);
+        if (cors != null && !corsProcessor.processRequest(cors, request, response)) {
+            // 허용하지 않은 origin: DefaultCorsProcessor 가 403 을 써 둠
+            return;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                Map.of("success", false, "error", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"));
+    }
+
+    private static final class Limit {
+
+        private final String name;
+
+        private final double requestsPerSecond;
+
+        private final int burst;
+
+        private final Cache<String, TokenBucket> buckets;
+
+        private final Counter throttledCounter;
+
+        private Limit(String name, double requestsPerSecond, int burst, long maxTrackedKeys, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTrackedKeys)
+                    .expireAfterAccess(IDLE_EXPIRY)
+                    .build();
+            this.throttledCounter = Counter.builder("app.ratelimit.throttled")
+                    .description("요청 속도 제한으로 거절된 요청 수")
+                    .tag("key", name)
+                    .register(meterRegistry);
+        }
+
+        private long tryConsume(String key, long now) {
+            return buckets.get(key, k -> new TokenBucket(requestsPerSecond, burst, now)).tryConsume(now);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.kt.backendapp.filter;
+
+import com.kt.backendapp.datasource.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+// 쓰기 요청을 보낸 클라이언트는 sticky-window 동안 읽기도 primary 에서 하도록 쿠키로 표시 (복제 지연으로 방금 쓴 값이 안 보이는 문제 방지)
+// 쿠키에는 만료 시각(epoch millis)을 담아 여러 인스턴스가 같은 기준으로 판단
+// 프론트엔드는 다른 origin 이므로 컨트롤러 @CrossOrigin 의 allowCredentials 와 클라이언트의 credentials: 'include' 가 있어야 쿠키가 돌아옴
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "RW_PRIMARY_UNTIL";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration stickyWindow;
+
+    private final Clock clock;
+
+    public ReadYourWritesFilter(@Value("${app.datasource.replica.sticky-window:5s}") Duration stickyWindow, Clock clock) {
+        this.stickyWindow = stickyWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            // 응답이 커밋된 뒤에는 쿠키를 붙일 수 없으므로 처리 전에 설정 (쓰기가 실패해도 잠시 primary 를 읽을 뿐)
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + stickyWindow.toMillis()));
+            cookie.setPath("/api");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+            response.addCookie(cookie);
+            ReadYourWrites.requirePrimary();
+        } else if (stickyUntil(request) > now) {
+            ReadYourWrites.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
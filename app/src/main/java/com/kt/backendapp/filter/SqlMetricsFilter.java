@@ -0,0 +1,110 @@
+package com.kt.backendapp.filter;
+
+import com.kt.backendapp.metrics.SqlExecutionCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+// API 요청마다 실행된 SQL 문 수, 조회된 행 수, SQL 실행 시간을 URI 패턴별로 기록
+// 스트리밍 응답(/stream, /export, /import)처럼 비동기 스레드에서 SQL 을 실행하는 요청은 그 스레드의 SQL 까지 합쳐 완료 시 기록
+@Component
+@ConditionalOnProperty(name = "app.metrics.sql.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final String ASYNC_INTERCEPTOR_KEY = SqlMetricsFilter.class.getName();
+
+    private final MeterRegistry meterRegistry;
+
+    // 행 수는 DataSourceProxyConfig 에서 ResultSet 을 감쌀 때만 집계됨
+    private final boolean countRows;
+
+    public SqlMetricsFilter(MeterRegistry meterRegistry,
+                            @Value("${app.metrics.sql.count-rows:false}") boolean countRows) {
+        this.meterRegistry = meterRegistry;
+        this.countRows = countRows;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlExecutionCounter.Counts counts = SqlExecutionCounter.begin();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ASYNC_INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void preProcess(NativeWebRequest webRequest, Callable<T> task) {
+                        SqlExecutionCounter.resume(counts);
+                    }
+
+                    @Override
+                    public <T> void postProcess(NativeWebRequest webRequest, Callable<T> task, Object result) {
+                        SqlExecutionCounter.end();
+                    }
+
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        record(request, counts);
+                    }
+                });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlExecutionCounter.end();
+            // 비동기 처리가 시작됐으면 afterCompletion 에서 기록
+            if (!isAsyncStarted(request)) {
+                record(request, counts);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlExecutionCounter.Counts counts) {
+        // 경로 변수(userId 등)가 태그로 들어가지 않도록 매핑된 URI 패턴 사용
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        DistributionSummary.builder("app.request.sql.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getStatements());
+        if (countRows) {
+            DistributionSummary.builder("app.request.sql.rows")
+                    .description("요청당 조회된 행 수")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(counts.getRows());
+        }
+        Timer.builder("app.request.sql.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getElapsedMillis(), TimeUnit.MILLISECONDS);
+        log.debug("요청 SQL 집계: method={}, uri={}, statements={}, rows={}, sqlTimeMs={}",
+                method, uri, counts.getStatements(), counts.getRows(), counts.getElapsedMillis());
+    }
+}
@@ -0,0 +1,35 @@
+package com.kt.backendapp.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 락 없는 토큰 버킷. 토큰 수와 마지막 충전 시각 대신 "버킷이 다시 가득 차는 시각" 하나만 두고 CAS 로 갱신 (GCRA 방식)
+// 초당 rate 개씩 충전되고 최대 burst 개까지 모아 둘 수 있는 토큰 버킷과 같은 결과
+final class TokenBucket {
+
+    private final long intervalNanos;
+
+    private final long capacityNanos;
+
+    // 이 시각까지는 이미 발급한 토큰이 충전 중. now 보다 이전이면 버킷이 가득 찬 상태
+    private final AtomicLong fullAt;
+
+    TokenBucket(double requestsPerSecond, int burst, long nowNanos) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / requestsPerSecond));
+        this.capacityNanos = intervalNanos * burst;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    // 토큰을 얻으면 0, 못 얻으면 다음 토큰까지 기다려야 하는 나노초
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current - nowNanos, 0) + intervalNanos;
+            if (next > capacityNanos) {
+                return next - capacityNanos;
+            }
+            if (fullAt.compareAndSet(current, nowNanos + next)) {
+                return 0;
+            }
+        }
+    }
+}
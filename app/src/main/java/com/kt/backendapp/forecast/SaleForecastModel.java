@@ -0,0 +1,128 @@
+package com.kt.backendapp.forecast;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+// 요일별 계절성을 둔 지수평활 (추세 없는 가법 Holt-Winters, 주기 7일)
+// 예측값 = level + seasonal[요일]. 관측이 들어올 때마다 상태만 갱신하므로 과거 이력을 다시 읽지 않음
+// lastDate 는 반영을 마친 마지막 날짜 (매출이 없는 날은 결측으로 보고 건너뜀)
+public class SaleForecastModel {
+
+    private double level;
+
+    private final double[] seasonal;
+
+    // 한 걸음 앞 예측 오차의 지수평활 평균 (예측 구간 폭에 사용)
+    private double meanAbsError;
+
+    private int observations;
+
+    private LocalDate lastDate;
+
+    public SaleForecastModel(double level, double[] seasonal, double meanAbsError, int observations, LocalDate lastDate) {
+        if (seasonal.length != 7) {
+            throw new IllegalArgumentException("seasonal 은 요일별 7개 값이어야 합니다: " + seasonal.length);
+        }
+        this.level = level;
+        this.seasonal = seasonal.clone();
+        this.meanAbsError = meanAbsError;
+        this.observations = observations;
+        this.lastDate = lastDate;
+    }
+
+    public static SaleForecastModel empty(LocalDate lastDate) {
+        return new SaleForecastModel(0, new double[7], 0, 0, lastDate);
+    }
+
+    public SaleForecastModel copy() {
+        return new SaleForecastModel(level, seasonal, meanAbsError, observations, lastDate);
+    }
+
+    public record Observation(LocalDate date, double amount) {
+    }
+
+    // lastDate 이후 날짜의 오름차순 일별 매출. 처음 학습할 때는 받은 구간의 평균으로 초기값을 잡음
+    public void observeAll(List<Observation> observed, double alpha, double gamma) {
+        if (observations == 0 && !observed.isEmpty()) {
+            initialize(observed);
+        }
+        for (Observation observation : observed) {
+            observe(observation.date(), observation.amount(), alpha, gamma);
+        }
+    }
+
+    public void observe(LocalDate date, double amount, double alpha, double gamma) {
+        int day = index(date.getDayOfWeek());
+        double season = seasonal[day];
+        if (observations > 0) {
+            meanAbsError = (1 - alpha) * meanAbsError + alpha * Math.abs(amount - (level + season));
+        }
+        double previousLevel = level;
+        level = alpha * (amount - season) + (1 - alpha) * previousLevel;
+        seasonal[day] = gamma * (amount - level) + (1 - gamma) * season;
+        observations++;
+        if (lastDate == null || date.isAfter(lastDate)) {
+            lastDate = date;
+        }
+    }
+
+    public double predict(LocalDate date) {
+        return Math.max(0, level + seasonal[index(date.getDayOfWeek())]);
+    }
+
+    // 오차가 정규분포라면 평균 절대 오차 x 1.25 가 표준편차에 가까우므로 ±2 표준편차를 구간으로 사용
+    public double margin() {
+        return 2.5 * meanAbsError;
+    }
+
+    public void advanceTo(LocalDate date) {
+        if (lastDate == null || date.isAfter(lastDate)) {
+            lastDate = date;
+        }
+    }
+
+    public double getLevel() {
+        return level;
+    }
+
+    public double[] getSeasonal() {
+        return seasonal.clone();
+    }
+
+    public double getMeanAbsError() {
+        return meanAbsError;
+    }
+
+    public int getObservations() {
+        return observations;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    private void initialize(List<Observation> observed) {
+        double[] sums = new double[7];
+        int[] counts = new int[7];
+        double total = 0;
+        for (Observation observation : observed) {
+            int day = index(observation.date().getDayOfWeek());
+            sums[day] += observation.amount();
+            counts[day]++;
+            total += observation.amount();
+        }
+        level = total / observed.size();
+        Arrays.fill(seasonal, 0);
+        for (int day = 0; day < 7; day++) {
+            if (counts[day] > 0) {
+                seasonal[day] = sums[day] / counts[day] - level;
+            }
+        }
+    }
+
+    private static int index(DayOfWeek dayOfWeek) {
+        return dayOfWeek.getValue() - 1;
+    }
+}
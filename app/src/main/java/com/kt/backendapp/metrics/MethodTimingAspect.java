@@ -0,0 +1,49 @@
+package com.kt.backendapp.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 서비스 메서드와 JdbcTemplate 리포지토리 호출 시간을 operation/outcome 태그로 기록
+// (Spring Data 리포지토리는 spring.data.repository.invocations 로 자동 측정)
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.kt.backendapp.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.service.method", joinPoint);
+    }
+
+    @Around("execution(public * com.kt.backendapp.repository.SaleBatchRepository.*(..))")
+    public Object timeJdbcRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.repository.jdbc", joinPoint);
+    }
+
+    private Object time(String metricName, ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(metricName)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.kt.backendapp.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+// datasource-proxy 리스너: 현재 요청에서 실행된 SQL 문 수, 조회된 행 수, SQL 실행 시간을 누적
+// 요청 스레드에서 begin, 비동기 처리 스레드(StreamingResponseBody 등)에서는 resume 으로 같은 Counts 에 이어서 누적
+public class SqlExecutionCounter implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    // 요청 스레드와 비동기 처리 스레드가 차례로 갱신하므로 volatile
+    public static final class Counts {
+        private volatile int statements;
+        private volatile long rows;
+        private volatile long elapsedMillis;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+
+    public static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void resume(Counts counts) {
+        CURRENT.set(counts);
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return;
+        }
+        counts.statements += execInfo.isBatch() ? execInfo.getBatchSize() : queryInfoList.size();
+        counts.elapsedMillis += execInfo.getElapsedTime();
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        Counts counts = CURRENT.get();
+        if (counts != null
+                && executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            counts.rows++;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.kt.backendapp.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 단일 인스턴스 및 테스트용: 구독자에게 배치 순서대로 동기 전달
+// 구독자가 예외를 던지면 배치 전체가 재발행되므로 구독자는 이벤트 id 로 이미 처리한 이벤트를 걸러야 함
+public class InMemorySaleEventSink implements SaleEventSink {
+
+    private final List<Consumer<SaleOutboxEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<SaleOutboxEvent> events) {
+        for (SaleOutboxEvent event : events) {
+            for (Consumer<SaleOutboxEvent> subscriber : subscribers) {
+                subscriber.accept(event);
+            }
+        }
+    }
+
+    public void subscribe(Consumer<SaleOutboxEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,12 @@
+package com.kt.backendapp.outbox;
+
+import java.util.List;
+
+// SaleOutboxRelay 가 outbox 이벤트를 내보내는 곳
+// 기본은 같은 JVM 구독자에게 전달하는 InMemorySaleEventSink, Kafka 등 외부 브로커로 보내려면 이 인터페이스를 구현한 빈을 등록
+// publish 가 예외 없이 끝나면 발행된 것으로 보고 outbox 에서 삭제하며, 예외가 나면 같은 배치를 다음 주기에 다시 보냄 (at-least-once)
+public interface SaleEventSink {
+
+    // events 는 id 오름차순. 구현체는 같은 userId 의 이벤트 순서를 유지해야 함
+    void publish(List<SaleOutboxEvent> events);
+}
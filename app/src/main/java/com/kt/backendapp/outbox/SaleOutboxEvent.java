@@ -0,0 +1,33 @@
+package com.kt.backendapp.outbox;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// sale_outbox 한 행. id 는 발행 순서이자 중복 수신 판별용 (같은 사용자의 이벤트는 커밋 순서대로 id 가 증가)
+// previousSaleDate/previousAmount 는 UPDATED 에서 갱신 전 값 (CREATED/DELETED 에서는 null)
+public record SaleOutboxEvent(Long id,
+                              Type type,
+                              String userId,
+                              Long saleId,
+                              LocalDate saleDate,
+                              BigDecimal amount,
+                              LocalDate previousSaleDate,
+                              BigDecimal previousAmount,
+                              LocalDateTime occurredAt) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static SaleOutboxEvent of(Type type, String userId, Long saleId, LocalDate saleDate, BigDecimal amount) {
+        return new SaleOutboxEvent(null, type, userId, saleId, saleDate, amount, null, null, null);
+    }
+
+    public static SaleOutboxEvent updated(String userId, Long saleId, LocalDate saleDate, BigDecimal amount,
+                                          LocalDate previousSaleDate, BigDecimal previousAmount) {
+        return new SaleOutboxEvent(null, Type.UPDATED, userId, saleId, saleDate, amount, previousSaleDate, previousAmount, null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.kt.backendapp.outbox;
+
+import com.kt.backendapp.repository.SaleOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+// sale_outbox 에 쌓인 이벤트를 id 순으로 배치 발행하고, 발행에 성공한 배치만 삭제
+// 발행 후 삭제 커밋 전에 실패하면 같은 이벤트가 다시 나가므로 at-least-once. 실패한 배치는 뒤 이벤트를 건너뛰지 않고 다음 주기에 그대로 재시도
+@Component
+@Slf4j
+public class SaleOutboxRelay {
+
+    private final SaleOutboxRepository saleOutboxRepository;
+
+    private final SaleEventSink saleEventSink;
+
+    private final TransactionOperations transactionOperations;
+
+    private final int batchSize;
+
+    private final Counter publishedCounter;
+
+    private final Counter failedCounter;
+
+    private volatile boolean failing;
+
+    public SaleOutboxRelay(SaleOutboxRepository saleOutboxRepository,
+                           SaleEventSink saleEventSink,
+                           TransactionOperations transactionOperations,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.outbox.sales.batch-size:500}") int batchSize) {
+        this.saleOutboxRepository = saleOutboxRepository;
+        this.saleEventSink = saleEventSink;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.publishedCounter = Counter.builder("app.outbox.sales.published")
+                .description("발행된 매출 변경 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("app.outbox.sales.failures")
+                .description("매출 변경 이벤트 배치 발행 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    // 배치가 가득 차 있으면 밀린 이벤트가 더 있으므로 바로 다음 배치를 처리
+    @Scheduled(fixedDelayString = "${app.outbox.sales.poll-interval:500ms}")
+    public void relay() {
+        int published;
+        do {
+            Integer result = transactionOperations.execute(status -> relayBatch());
+            published = result == null ? 0 : result;
+        } while (published == batchSize);
+    }
+
+    private int relayBatch() {
+        if (!saleOutboxRepository.tryLockRelay()) {
+            return 0;
+        }
+        List<SaleOutboxEvent> events = saleOutboxRepository.findPending(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            saleEventSink.publish(events);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            if (!failing) {
+                failing = true;
+                log.warn("매출 변경 이벤트 발행 실패 - 다음 주기에 재시도: firstId={}, count={}", events.get(0).id(), events.size(), e);
+            }
+            return 0;
+        }
+        if (failing) {
+            failing = false;
+            log.info("매출 변경 이벤트 발행 재개: firstId={}", events.get(0).id());
+        }
+        saleOutboxRepository.deleteByIds(events.stream().map(SaleOutboxEvent::id).toList());
+        publishedCounter.increment(events.size());
+        log.debug("매출 변경 이벤트 발행: firstId={}, count={}", events.get(0).id(), events.size());
+        return events.size();
+    }
+}
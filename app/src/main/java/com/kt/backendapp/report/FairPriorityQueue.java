@@ -0,0 +1,114 @@
+package com.kt.backendapp.report;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 우선순위 단계(0 이 가장 높음)마다 요청자(tenant)별로 따로 줄을 세우고, 가장 높은 단계 안에서 요청자를 돌아가며 하나씩 꺼냄
+// 한 요청자가 작업을 많이 넣어도 같은 단계의 다른 요청자 작업은 최대 (요청자 수 - 1) 개만 기다림
+// 전체(maxSize) 또는 요청자별(maxPerTenant) 한도를 넘으면 RejectedExecutionException
+public final class FairPriorityQueue<T> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    // 단계별: 요청자 -> 대기 작업. 순서가 다음 차례
+    private final List<LinkedHashMap<String, ArrayDeque<T>>> levels;
+
+    private final Map<String, Integer> queuedByTenant = new HashMap<>();
+
+    private final int maxSize;
+
+    private final int maxPerTenant;
+
+    private int size;
+
+    public FairPriorityQueue(int levelCount, int maxSize, int maxPerTenant) {
+        this.levels = new ArrayList<>(levelCount);
+        for (int i = 0; i < levelCount; i++) {
+            levels.add(new LinkedHashMap<>());
+        }
+        this.maxSize = maxSize;
+        this.maxPerTenant = maxPerTenant;
+    }
+
+    public void offer(String tenant, int level, T item) {
+        lock.lock();
+        try {
+            if (size >= maxSize) {
+                throw new RejectedExecutionException("대기 중인 작업이 너무 많습니다. 잠시 후 다시 시도하세요.");
+            }
+            int queued = queuedByTenant.getOrDefault(tenant, 0);
+            if (queued >= maxPerTenant) {
+                throw new RejectedExecutionException("요청자별 대기 작업 한도(" + maxPerTenant + "건)를 넘었습니다: " + tenant);
+            }
+            levels.get(level).computeIfAbsent(tenant, key -> new ArrayDeque<>()).addLast(item);
+            queuedByTenant.put(tenant, queued + 1);
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 비어 있으면 null
+    public T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private T next() {
+        for (LinkedHashMap<String, ArrayDeque<T>> level : levels) {
+            Iterator<Map.Entry<String, ArrayDeque<T>>> tenants = level.entrySet().iterator();
+            if (!tenants.hasNext()) {
+                continue;
+            }
+            Map.Entry<String, ArrayDeque<T>> first = tenants.next();
+            String tenant = first.getKey();
+            ArrayDeque<T> queue = first.getValue();
+            T item = queue.pollFirst();
+            // 맨 뒤로 보내 다음에는 다른 요청자 차례
+            tenants.remove();
+            if (!queue.isEmpty()) {
+                level.put(tenant, queue);
+            }
+            queuedByTenant.computeIfPresent(tenant, (key, count) -> count > 1 ? count - 1 : null);
+            size--;
+            return item;
+        }
+        throw new IllegalStateException("size 와 대기 작업 수가 맞지 않습니다");
+    }
+}
@@ -0,0 +1,62 @@
+package com.kt.backendapp.report;
+
+import com.kt.backendapp.dto.ReportRequest;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+// 보고서 작업 한 건의 상태. 상태 필드는 워커 스레드가 바꾸고 요청 스레드가 읽으므로 volatile
+@Getter
+public class ReportJob {
+
+    private final String id;
+
+    // 같은 요청을 동시에 여러 번 보내면 같은 작업으로 합치기 위한 키
+    private final String dedupKey;
+
+    private final ReportRequest request;
+
+    private final LocalDateTime createdAt;
+
+    private volatile ReportStatus status = ReportStatus.QUEUED;
+
+    private volatile LocalDateTime startedAt;
+
+    private volatile LocalDateTime finishedAt;
+
+    private volatile Path resultFile;
+
+    private volatile long resultSize;
+
+    private volatile String error;
+
+    public ReportJob(String id, String dedupKey, ReportRequest request, LocalDateTime createdAt) {
+        this.id = id;
+        this.dedupKey = dedupKey;
+        this.request = request;
+        this.createdAt = createdAt;
+    }
+
+    public void markRunning(LocalDateTime now) {
+        startedAt = now;
+        status = ReportStatus.RUNNING;
+    }
+
+    public void markSucceeded(LocalDateTime now, Path file, long size) {
+        resultFile = file;
+        resultSize = size;
+        finishedAt = now;
+        status = ReportStatus.SUCCEEDED;
+    }
+
+    public void markFailed(LocalDateTime now, String message) {
+        error = message;
+        finishedAt = now;
+        status = ReportStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == ReportStatus.SUCCEEDED || status == ReportStatus.FAILED;
+    }
+}
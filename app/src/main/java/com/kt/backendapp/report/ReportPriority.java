@@ -0,0 +1,8 @@
+package com.kt.backendapp.report;
+
+// 선언 순서가 곧 처리 순서 (ordinal 0 이 가장 먼저)
+public enum ReportPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,8 @@
+package com.kt.backendapp.report;
+
+public enum ReportStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,26 @@
+package com.kt.backendapp.report;
+
+// 비동기로 만드는 보고서 종류. 결과 파일 확장자와 내려받을 때의 Content-Type
+public enum ReportType {
+    // 여러 매장의 기간별(day/week/month/year) 합계/평균/건수/최소/최대
+    SALES_BREAKDOWN("json", "application/json"),
+    // 여러 매장의 매출 행을 하나의 CSV 로
+    SALES_EXPORT("csv", "text/csv;charset=UTF-8");
+    
+    private final String extension;
+    
+    private final String contentType;
+    
+    ReportType(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+    
+    public String extension() {
+        return extension;
+    }
+    
+    public String contentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,91 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.Sale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SaleBatchRepository {
+    
+    // 한 statement 당 행 수 (행당 5개 파라미터, PostgreSQL 바인드 파라미터 한도 32767 이내)
+    public static final int CHUNK_SIZE = 500;
+    
+    private static final String UPSERT_PREFIX =
+            "WITH input (user_id, sale_date, amount, store_name, business_type) AS (VALUES ";
+    
+    private static final String UPSERT_ROW =
+            "(CAST(? AS VARCHAR), CAST(? AS DATE), CAST(? AS NUMERIC), CAST(? AS VARCHAR), CAST(? AS VARCHAR))";
+    
+    // previous: 덮어쓸 기존 행을 잠그고 이전 금액을 읽음. INSERT 의 WHERE 에 있는 스칼라 서브쿼리(InitPlan)가 previous 를 먼저 끝까지 읽게 해서,
+    // 같은 statement 의 INSERT 가 먼저 갱신한 행을 잠그려다 건너뛰어 이전 금액이 비는 일이 없도록 함
+    // 새로 넣은 행만 created_at = updated_at (파티션 테이블이라 xmax 로 구분할 수 없음).
+    // 갱신 시 updated_at 을 이전 값보다 반드시 크게 해서, 같은 트랜잭션에서 넣은 행을 다시 갱신해도(LOCALTIMESTAMP 가 같음) 새 행으로 보이지 않게 함
+    private static final String UPSERT_SUFFIX = ")"
+            + ", previous AS ("
+            + " SELECT s.user_id, s.sale_date, s.amount FROM sales s"
+            + " JOIN input i ON i.user_id = s.user_id AND i.sale_date = s.sale_date"
+            + " FOR UPDATE OF s"
+            + "), upserted AS ("
+            + " INSERT INTO sales (user_id, sale_date, amount, store_name, business_type, created_at, updated_at)"
+            + " SELECT user_id, sale_date, amount, store_name, business_type, LOCALTIMESTAMP, LOCALTIMESTAMP FROM input"
+            + " WHERE (SELECT COUNT(*) FROM previous) >= 0"
+            + " ON CONFLICT (user_id, sale_date) DO UPDATE SET"
+            + " amount = EXCLUDED.amount,"
+            + " store_name = EXCLUDED.store_name,"
+            + " business_type = EXCLUDED.business_type,"
+            + " updated_at = GREATEST(sales.updated_at + INTERVAL '1 microsecond', EXCLUDED.updated_at)"
+            + " RETURNING id, user_id, sale_date, (created_at = updated_at) AS inserted"
+            + ")"
+            + " SELECT u.id, u.user_id, u.sale_date, u.inserted, p.amount AS previous_amount FROM upserted u"
+            + " LEFT JOIN previous p ON p.user_id = u.user_id AND p.sale_date = u.sale_date";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // previousAmount 는 기존 행을 갱신한 경우의 이전 금액 (새로 넣은 행이면 null)
+    public record UpsertedSale(Long id, String userId, LocalDate saleDate, boolean inserted, BigDecimal previousAmount) {
+    }
+    
+    // 반환 순서는 입력 순서와 다를 수 있음. 같은 statement 안에 동일 (user_id, sale_date) 가 두 번 나오면 PostgreSQL 이 오류를 내므로 호출 측에서 중복을 제거해야 함
+    public List<UpsertedSale> upsertAll(List<Sale> sales) {
+        List<UpsertedSale> upserted = new ArrayList<>(sales.size());
+        for (int from = 0; from < sales.size(); from += CHUNK_SIZE) {
+            List<Sale> chunk = sales.subList(from, Math.min(from + CHUNK_SIZE, sales.size()));
+            upserted.addAll(upsertChunk(chunk));
+        }
+        return upserted;
+    }
+    
+    private List<UpsertedSale> upsertChunk(List<Sale> chunk) {
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + chunk.size() * (UPSERT_ROW.length() + 2) + UPSERT_SUFFIX.length());
+        sql.append(UPSERT_PREFIX);
+        Object[] args = new Object[chunk.size() * 5];
+        int i = 0;
+        for (Sale sale : chunk) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(UPSERT_ROW);
+            args[i++] = sale.getUserId();
+            args[i++] = Date.valueOf(sale.getSaleDate());
+            args[i++] = sale.getAmount();
+            args[i++] = sale.getStoreName();
+            args[i++] = sale.getBusinessType();
+        }
+        sql.append(UPSERT_SUFFIX);
+        
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new UpsertedSale(
+                rs.getLong("id"),
+                rs.getString("user_id"),
+                rs.getDate("sale_date").toLocalDate(),
+                rs.getBoolean("inserted"),
+                rs.getBigDecimal("previous_amount")), args);
+    }
+}
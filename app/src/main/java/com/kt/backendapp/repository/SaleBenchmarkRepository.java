@@ -0,0 +1,77 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 업종별 비교용 매장 단위 요약: [dailyFrom, dailyTo] 의 일 평균 매출, [monthFrom, monthTo] 의 월 매출 합계
+// 업종이 바뀐 매장은 기간 안 가장 최근 매출의 업종 하나로만 집계하고, 금액은 업종과 관계없이 매장의 전체 매출 기준
+// sale_date 조건이 있으므로 기간이 걸친 연도 파티션만 읽음 (1월에는 전년 파티션도 포함)
+@Repository
+@RequiredArgsConstructor
+public class SaleBenchmarkRepository {
+
+    private static final String SUMMARY_SELECT = """
+            SELECT (ARRAY_AGG(business_type ORDER BY sale_date DESC))[1] AS business_type,
+                   user_id,
+                   AVG(amount) FILTER (WHERE sale_date BETWEEN ? AND ?) AS daily_average,
+                   SUM(amount) FILTER (WHERE sale_date BETWEEN ? AND ?) AS month_total,
+                   MAX(sale_date) AS last_sale_date
+            FROM sales
+            WHERE sale_date BETWEEN ? AND ?
+              AND business_type IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StoreSummary(String businessType, String userId, BigDecimal dailyAverage, BigDecimal monthTotal,
+                               LocalDate lastSaleDate) {
+    }
+
+    // 전체 매장 요약을 모으지 않고 한 행씩 넘김
+    public void forEachStoreSummary(LocalDate dailyFrom, LocalDate dailyTo, LocalDate monthFrom, LocalDate monthTo,
+                                    Consumer<StoreSummary> consumer) {
+        jdbcTemplate.query(SUMMARY_SELECT + " GROUP BY user_id",
+                (RowCallbackHandler) rs -> consumer.accept(map(rs)),
+                args(dailyFrom, dailyTo, monthFrom, monthTo));
+    }
+
+    public Optional<StoreSummary> findStoreSummary(String userId, LocalDate dailyFrom, LocalDate dailyTo,
+                                                   LocalDate monthFrom, LocalDate monthTo) {
+        Object[] rangeArgs = args(dailyFrom, dailyTo, monthFrom, monthTo);
+        Object[] queryArgs = new Object[rangeArgs.length + 1];
+        System.arraycopy(rangeArgs, 0, queryArgs, 0, rangeArgs.length);
+        queryArgs[rangeArgs.length] = userId;
+        List<StoreSummary> summaries = jdbcTemplate.query(
+                SUMMARY_SELECT + " AND user_id = ? GROUP BY user_id",
+                (rs, rowNum) -> map(rs), queryArgs);
+        return summaries.stream().findFirst();
+    }
+
+    private static Object[] args(LocalDate dailyFrom, LocalDate dailyTo, LocalDate monthFrom, LocalDate monthTo) {
+        return new Object[]{
+                Date.valueOf(dailyFrom), Date.valueOf(dailyTo),
+                Date.valueOf(monthFrom), Date.valueOf(monthTo),
+                Date.valueOf(dailyFrom.isBefore(monthFrom) ? dailyFrom : monthFrom),
+                Date.valueOf(dailyTo.isAfter(monthTo) ? dailyTo : monthTo)};
+    }
+
+    private static StoreSummary map(ResultSet rs) throws SQLException {
+        return new StoreSummary(
+                rs.getString("business_type"),
+                rs.getString("user_id"),
+                rs.getBigDecimal("daily_average"),
+                rs.getBigDecimal("month_total"),
+                rs.getDate("last_sale_date").toLocalDate());
+    }
+}
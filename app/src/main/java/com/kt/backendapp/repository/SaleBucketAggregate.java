@@ -0,0 +1,19 @@
+package com.kt.backendapp.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface SaleBucketAggregate {
+    
+    LocalDate getBucket();
+    
+    BigDecimal getTotalAmount();
+    
+    BigDecimal getAverageAmount();
+    
+    Long getSaleCount();
+    
+    BigDecimal getMinAmount();
+    
+    BigDecimal getMaxAmount();
+}
@@ -0,0 +1,11 @@
+package com.kt.backendapp.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface SaleDailyAmount {
+    
+    LocalDate getSaleDate();
+    
+    BigDecimal getAmount();
+}
@@ -0,0 +1,63 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.forecast.SaleForecastModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SaleForecastModelRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 인스턴스가 같은 시각에 학습 배치를 돌리지 않도록 트랜잭션 범위 advisory lock
+    public boolean tryLockTraining() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('sale_forecast_training'))", Boolean.class));
+    }
+
+    public Optional<SaleForecastModel> findByUserId(String userId) {
+        List<SaleForecastModel> models = jdbcTemplate.query("""
+                SELECT level, seasonal, mean_abs_error, observations, last_date
+                FROM sale_forecast_models
+                WHERE user_id = ?
+                """, (rs, rowNum) -> {
+            Array seasonal = rs.getArray("seasonal");
+            double[] values = Arrays.stream((Double[]) seasonal.getArray()).mapToDouble(Double::doubleValue).toArray();
+            seasonal.free();
+            return new SaleForecastModel(
+                    rs.getDouble("level"),
+                    values,
+                    rs.getDouble("mean_abs_error"),
+                    rs.getInt("observations"),
+                    rs.getDate("last_date").toLocalDate());
+        }, userId);
+        return models.stream().findFirst();
+    }
+
+    // 여러 인스턴스의 배치가 겹쳐도 더 앞선 날짜까지 반영한 상태를 되돌리지 않음
+    public void save(String userId, SaleForecastModel model) {
+        Double[] seasonal = Arrays.stream(model.getSeasonal()).boxed().toArray(Double[]::new);
+        jdbcTemplate.update("""
+                INSERT INTO sale_forecast_models (user_id, level, seasonal, mean_abs_error, observations, last_date, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, LOCALTIMESTAMP)
+                ON CONFLICT (user_id) DO UPDATE SET
+                    level = EXCLUDED.level,
+                    seasonal = EXCLUDED.seasonal,
+                    mean_abs_error = EXCLUDED.mean_abs_error,
+                    observations = EXCLUDED.observations,
+                    last_date = EXCLUDED.last_date,
+                    updated_at = EXCLUDED.updated_at
+                WHERE sale_forecast_models.last_date < EXCLUDED.last_date
+                """,
+                userId, model.getLevel(), seasonal, model.getMeanAbsError(), model.getObservations(),
+                Date.valueOf(model.getLastDate()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.outbox.SaleOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SaleOutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO sale_outbox (event_type, user_id, sale_id, sale_date, amount, previous_sale_date, previous_amount)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 해시 순서로 잠가서 여러 사용자를 잠그는 트랜잭션끼리 교착되지 않도록 함
+    private static final String LOCK_USERS_SQL = """
+            SELECT COUNT(pg_advisory_xact_lock(hashtext('sale_outbox'), locks.user_hash))
+            FROM (SELECT DISTINCT hashtext(u) AS user_hash FROM unnest(CAST(? AS TEXT[])) AS u ORDER BY user_hash) locks
+            """;
+
+    private static final RowMapper<SaleOutboxEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new SaleOutboxEvent(
+            rs.getLong("id"),
+            SaleOutboxEvent.Type.valueOf(rs.getString("event_type")),
+            rs.getString("user_id"),
+            rs.getObject("sale_id", Long.class),
+            rs.getObject("sale_date", LocalDate.class),
+            rs.getBigDecimal("amount"),
+            rs.getObject("previous_sale_date", LocalDate.class),
+            rs.getBigDecimal("previous_amount"),
+            rs.getObject("occurred_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 사용자의 outbox id 가 커밋 순서대로 발급되도록 커밋까지 사용자별 잠금을 잡음
+    // (먼저 id 를 받은 트랜잭션이 늦게 커밋하면 relay 가 뒤 이벤트를 먼저 발행할 수 있음)
+    public void lockUsers(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.queryForObject(LOCK_USERS_SQL, Long.class, (Object) userIds.toArray(String[]::new));
+    }
+
+    public void append(SaleOutboxEvent event) {
+        jdbcTemplate.update(INSERT_SQL, insertArgs(event));
+    }
+
+    public void appendAll(List<SaleOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events.stream().map(SaleOutboxRepository::insertArgs).toList());
+    }
+
+    // 여러 인스턴스 중 하나만 발행하도록 트랜잭션 범위 advisory lock (동시에 발행하면 사용자별 순서가 깨질 수 있음)
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('sale_outbox_relay'))", Boolean.class));
+    }
+
+    public List<SaleOutboxEvent> findPending(int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, event_type, user_id, sale_id, sale_date, amount, previous_sale_date, previous_amount, occurred_at
+                FROM sale_outbox
+                ORDER BY id
+                LIMIT ?
+                """, EVENT_ROW_MAPPER, limit);
+    }
+
+    public int deleteByIds(List<Long> ids) {
+        return jdbcTemplate.update("DELETE FROM sale_outbox WHERE id = ANY(CAST(? AS BIGINT[]))", (Object) ids.toArray(Long[]::new));
+    }
+
+    private static Object[] insertArgs(SaleOutboxEvent event) {
+        return new Object[]{
+                event.type().name(),
+                event.userId(),
+                event.saleId(),
+                event.saleDate(),
+                event.amount(),
+                event.previousSaleDate(),
+                event.previousAmount()};
+    }
+}
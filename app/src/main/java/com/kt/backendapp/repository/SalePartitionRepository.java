@@ -0,0 +1,74 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+// sales 연도별 파티션(sales_yYYYY) 관리용 DDL. 파티션 이름에는 연도(정수)만 들어가므로 식별자를 문자열로 조립해도 안전
+@Repository
+@RequiredArgsConstructor
+public class SalePartitionRepository {
+
+    private static final String PARTITION_PREFIX = "sales_y";
+
+    private static final String DEFAULT_PARTITION = "sales_default";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 여러 인스턴스가 동시에 같은 파티션을 만들지 않도록 트랜잭션 범위 advisory lock
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('sales_partition_maintenance'))", Boolean.class));
+    }
+
+    public List<Integer> findPartitionYears() {
+        return jdbcTemplate.queryForList("""
+                SELECT CAST(substring(c.relname FROM '^sales_y([0-9]{4})$') AS INT)
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'sales'::regclass
+                  AND c.relname ~ '^sales_y[0-9]{4}$'
+                ORDER BY 1
+                """, Integer.class);
+    }
+
+    // 해당 연도 파티션이 없어 기본 파티션에 들어간 행들의 연도
+    public List<Integer> findYearsInDefaultPartition() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(EXTRACT(YEAR FROM sale_date) AS INT) FROM " + DEFAULT_PARTITION + " ORDER BY 1",
+                Integer.class);
+    }
+
+    // 기본 파티션에 이미 같은 연도 행이 있으면 CREATE ... PARTITION OF 가 실패하므로,
+    // 빈 테이블을 만들고 해당 행을 옮긴 뒤 ATTACH (ATTACH 가 부모의 기본키/유니크 인덱스를 자동으로 만듦)
+    public int createYearPartition(int year) {
+        String partition = PARTITION_PREFIX + year;
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = from.plusYears(1);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE sales INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS ("
+                + " DELETE FROM " + DEFAULT_PARTITION + " WHERE sale_date >= ? AND sale_date < ? RETURNING *"
+                + ") INSERT INTO " + partition + " SELECT * FROM moved",
+                Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.execute("ALTER TABLE sales ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        return moved;
+    }
+
+    // 보관하면 통계/조회 캐시를 다시 맞춰야 하는 사용자들
+    public List<String> findUserIds(int year) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT user_id FROM " + PARTITION_PREFIX + year, String.class);
+    }
+
+    // 분리한 파티션은 archiveSchema 로 옮겨 보관 (조회/통계 재집계 대상에서 빠짐)
+    public void detachToArchive(int year, String archiveSchema) {
+        String partition = PARTITION_PREFIX + year;
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbcTemplate.execute("ALTER TABLE sales DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+    }
+}
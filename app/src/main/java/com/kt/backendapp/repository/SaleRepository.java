@@ -1,21 +1,61 @@
 package com.kt.backendapp.repository;
 
 import com.kt.backendapp.entity.Sale;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SaleRepository extends JpaRepository<Sale, Long> {
     
     List<Sale> findByUserIdOrderBySaleDateDesc(String userId);
     
+    // 키셋 페이지네이션: (saleDate, id) 내림차순으로 커서 이후 행만 조회
+    @Query("SELECT s FROM Sale s WHERE s.userId = :userId ORDER BY s.saleDate DESC, s.id DESC")
+    List<Sale> findPageByUserId(@Param("userId") String userId, Limit limit);
+    
+    @Query("SELECT s FROM Sale s WHERE s.userId = :userId "
+            + "AND (s.saleDate < :saleDate OR (s.saleDate = :saleDate AND s.id < :id)) "
+            + "ORDER BY s.saleDate DESC, s.id DESC")
+    List<Sale> findPageByUserIdAfter(
+        @Param("userId") String userId,
+        @Param("saleDate") LocalDate saleDate,
+        @Param("id") Long id,
+        Limit limit
+    );
+    
+    // 트랜잭션 안에서 커서로 조금씩 읽어오는 스트림 (호출 측에서 반드시 close)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Sale s WHERE s.userId = :userId ORDER BY s.saleDate DESC, s.id DESC")
+    Stream<Sale> streamByUserId(@Param("userId") String userId);
+    
+    // 내보내기용: 기간 내 행을 날짜 오름차순으로 커서 조회 (호출 측에서 반드시 close)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Sale s WHERE s.userId = :userId AND s.saleDate BETWEEN :startDate AND :endDate ORDER BY s.saleDate")
+    Stream<Sale> streamByUserIdAndSaleDateBetween(
+        @Param("userId") String userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
     List<Sale> findByUserIdAndSaleDateBetweenOrderBySaleDate(
         String userId, 
         LocalDate startDate, 
@@ -24,17 +64,78 @@ public interface SaleRepository extends JpaRepository<Sale, Long> {
     
     Optional<Sale> findByUserIdAndSaleDate(String userId, LocalDate saleDate);
     
-    @Query("SELECT SUM(s.amount) FROM Sale s WHERE s.userId = :userId")
-    Optional<BigDecimal> findTotalSalesByUserId(@Param("userId") String userId);
+    // 열 지향 분석 저장소(SaleColumns) 적재용: 엔티티 대신 날짜/금액만 날짜 오름차순으로 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s.saleDate AS saleDate, s.amount AS amount FROM Sale s WHERE s.userId = :userId ORDER BY s.saleDate")
+    List<SaleDailyAmount> findDailyAmountsByUserId(@Param("userId") String userId);
+    
+    // 조회 후 저장 대신 한 statement 로 원자적으로 생성/갱신하고 저장된 행을 돌려받음
+    // 파티션 테이블의 ON CONFLICT RETURNING 에서는 xmax 를 읽을 수 없으므로, 새로 넣은 행은 created_at 과 updated_at 이 같은 점으로 구분
+    // 갱신할 때는 updated_at 을 기존 값보다 반드시 1µs 이상 올림: 같은 시각에 시작한 트랜잭션의 갱신도 생성으로 보이지 않고, 마지막에 쓴 요청의 updated_at 이 가장 큼
+    // previous 는 FOR UPDATE 로 잠가서 읽음: 동시에 커밋된 갱신이 있으면 기다렸다가 최신 커밋 값을 다시 읽으므로 이전 금액이 어긋나지 않음
+    // INSERT 의 WHERE 스칼라 서브쿼리(InitPlan)로 previous 를 먼저 읽게 함 (INSERT 가 먼저 갱신하면 잠글 행이 건너뛰어져 이전 금액이 null 이 됨)
+    @Query(value = """
+            WITH previous AS (
+                SELECT amount FROM sales WHERE user_id = :userId AND sale_date = :saleDate FOR UPDATE
+            ), upserted AS (
+                INSERT INTO sales (user_id, sale_date, amount, store_name, business_type, created_at, updated_at)
+                SELECT :userId, :saleDate, :amount, :storeName, :businessType, LOCALTIMESTAMP, LOCALTIMESTAMP
+                WHERE (SELECT COUNT(*) FROM previous) >= 0
+                ON CONFLICT (user_id, sale_date) DO UPDATE SET
+                    amount = EXCLUDED.amount,
+                    store_name = EXCLUDED.store_name,
+                    business_type = EXCLUDED.business_type,
+                    updated_at = GREATEST(sales.updated_at + INTERVAL '1 microsecond', EXCLUDED.updated_at)
+                RETURNING id, user_id, sale_date, amount, store_name, business_type, created_at, updated_at,
+                          (created_at = updated_at) AS inserted
+            )
+            SELECT u.id AS id,
+                   u.user_id AS userId,
+                   u.sale_date AS saleDate,
+                   u.amount AS amount,
+                   u.store_name AS storeName,
+                   u.business_type AS businessType,
+                   u.created_at AS createdAt,
+                   u.updated_at AS updatedAt,
+                   u.inserted AS inserted,
+                   p.amount AS previousAmount
+            FROM upserted u
+            LEFT JOIN previous p ON TRUE
+            """, nativeQuery = true)
+    SaleUpsertResult upsert(
+        @Param("userId") String userId,
+        @Param("saleDate") LocalDate saleDate,
+        @Param("amount") BigDecimal amount,
+        @Param("storeName") String storeName,
+        @Param("businessType") String businessType
+    );
     
-    @Query("SELECT AVG(s.amount) FROM Sale s WHERE s.userId = :userId")
-    Optional<BigDecimal> findAverageSalesByUserId(@Param("userId") String userId);
+    // YEAR()/MONTH() 로 컬럼을 감싸면 인덱스를 탈 수 없으므로 해당 월의 날짜 범위로 조회
+    default List<Sale> findByUserIdAndYearAndMonth(String userId, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findByUserIdAndSaleDateBetweenOrderBySaleDate(userId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
     
-    @Query("SELECT s FROM Sale s WHERE s.userId = :userId AND YEAR(s.saleDate) = :year AND MONTH(s.saleDate) = :month ORDER BY s.saleDate")
-    List<Sale> findByUserIdAndYearAndMonth(
-        @Param("userId") String userId, 
-        @Param("year") int year, 
-        @Param("month") int month
+    // unit 은 date_trunc 단위(day/week/month/year). 날짜 조건은 컬럼을 그대로 비교해 인덱스 범위 스캔이 가능하도록 작성
+    @Query(value = """
+            SELECT CAST(date_trunc(:unit, s.sale_date) AS date) AS bucket,
+                   SUM(s.amount) AS totalAmount,
+                   ROUND(AVG(s.amount), 2) AS averageAmount,
+                   COUNT(*) AS saleCount,
+                   MIN(s.amount) AS minAmount,
+                   MAX(s.amount) AS maxAmount
+            FROM sales s
+            WHERE s.user_id = :userId
+              AND s.sale_date >= :fromDate
+              AND s.sale_date < :toDateExclusive
+            GROUP BY 1
+            ORDER BY 1
+            """, nativeQuery = true)
+    List<SaleBucketAggregate> aggregateByUserId(
+        @Param("userId") String userId,
+        @Param("unit") String unit,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDateExclusive") LocalDate toDateExclusive
     );
     
     Long countByUserId(String userId);
@@ -0,0 +1,156 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.SaleStatistics;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SaleStatisticsRepository extends JpaRepository<SaleStatistics, String> {
+    
+    // /statistics 에 필요한 값을 한 statement 로 조회
+    // 누적 집계는 sale_statistics 에서 PK 로 읽고, 행이 없을 때만(st.user_id IS NULL) sales 를 집계
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_TIMEOUT, value = "2"))
+    @Query(value = """
+            SELECT COALESCE(st.total_amount, f.total_amount) AS totalAmount,
+                   COALESCE(st.sale_count, f.sale_count) AS saleCount,
+                   COALESCE(st.min_amount, f.min_amount) AS minAmount,
+                   COALESCE(st.max_amount, f.max_amount) AS maxAmount,
+                   COALESCE(st.last_sale_date, f.last_sale_date) AS lastSaleDate
+            FROM (SELECT CAST(:userId AS VARCHAR) AS user_id) k
+            LEFT JOIN sale_statistics st ON st.user_id = k.user_id
+            LEFT JOIN LATERAL (
+                SELECT SUM(s.amount) AS total_amount,
+                       COUNT(*) AS sale_count,
+                       MIN(s.amount) AS min_amount,
+                       MAX(s.amount) AS max_amount,
+                       MAX(s.sale_date) AS last_sale_date
+                FROM sales s
+                WHERE s.user_id = k.user_id
+                  AND st.user_id IS NULL
+            ) f ON TRUE
+            """, nativeQuery = true)
+    SaleStatisticsSnapshot findSnapshot(@Param("userId") String userId);
+    
+    // 매출이 있는 모든 사용자 (야간 배치 대상)
+    @Query("SELECT st.userId FROM SaleStatistics st ORDER BY st.userId")
+    List<String> findAllUserIds();
+    
+    // 조건부 GET(ETag/Last-Modified)용: 행을 읽지 않고 PK 조회 한 번으로 사용자 매출 데이터 버전 확인
+    @Query(value = """
+            SELECT st.sale_count AS saleCount, st.updated_at AS updatedAt
+            FROM sale_statistics st
+            WHERE st.user_id = :userId
+            """, nativeQuery = true)
+    Optional<SaleStatisticsVersion> findVersion(@Param("userId") String userId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO sale_statistics (user_id, total_amount, sale_count, min_amount, max_amount, last_sale_date, updated_at)
+            VALUES (:userId, :amount, 1, :amount, :amount, :saleDate, LOCALTIMESTAMP)
+            ON CONFLICT (user_id) DO UPDATE SET
+                total_amount = sale_statistics.total_amount + EXCLUDED.total_amount,
+                sale_count = sale_statistics.sale_count + 1,
+                min_amount = LEAST(sale_statistics.min_amount, EXCLUDED.min_amount),
+                max_amount = GREATEST(sale_statistics.max_amount, EXCLUDED.max_amount),
+                last_sale_date = GREATEST(sale_statistics.last_sale_date, EXCLUDED.last_sale_date),
+                updated_at = GREATEST(sale_statistics.updated_at + INTERVAL '1 microsecond', EXCLUDED.updated_at)
+            """, nativeQuery = true)
+    int applyAdded(@Param("userId") String userId,
+                   @Param("saleDate") LocalDate saleDate,
+                   @Param("amount") BigDecimal amount);
+    
+    // 최소/최대/최근 날짜 경계를 건드리지 않는 변경에만 사용 (경계가 바뀌면 recomputeForUsers)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE sale_statistics SET
+                total_amount = total_amount - :oldAmount + :newAmount,
+                min_amount = LEAST(min_amount, :newAmount),
+                max_amount = GREATEST(max_amount, :newAmount),
+                last_sale_date = GREATEST(last_sale_date, :newSaleDate),
+                updated_at = GREATEST(updated_at + INTERVAL '1 microsecond', LOCALTIMESTAMP)
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int applyReplaced(@Param("userId") String userId,
+                      @Param("oldAmount") BigDecimal oldAmount,
+                      @Param("newSaleDate") LocalDate newSaleDate,
+                      @Param("newAmount") BigDecimal newAmount);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE sale_statistics SET
+                total_amount = total_amount - :amount,
+                sale_count = sale_count - 1,
+                updated_at = GREATEST(updated_at + INTERVAL '1 microsecond', LOCALTIMESTAMP)
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int applyRemoved(@Param("userId") String userId, @Param("amount") BigDecimal amount);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO sale_statistics (user_id, total_amount, sale_count, min_amount, max_amount, last_sale_date, updated_at)
+            SELECT user_id, SUM(amount), COUNT(*), MIN(amount), MAX(amount), MAX(sale_date), LOCALTIMESTAMP
+            FROM sales
+            WHERE user_id IN (:userIds)
+            GROUP BY user_id
+            ON CONFLICT (user_id) DO UPDATE SET
+                total_amount = EXCLUDED.total_amount,
+                sale_count = EXCLUDED.sale_count,
+                min_amount = EXCLUDED.min_amount,
+                max_amount = EXCLUDED.max_amount,
+                last_sale_date = EXCLUDED.last_sale_date,
+                updated_at = GREATEST(sale_statistics.updated_at + INTERVAL '1 microsecond', EXCLUDED.updated_at)
+            """, nativeQuery = true)
+    int recomputeForUsers(@Param("userIds") Collection<String> userIds);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM sale_statistics st
+            WHERE st.user_id IN (:userIds)
+              AND NOT EXISTS (SELECT 1 FROM sales s WHERE s.user_id = st.user_id)
+            """, nativeQuery = true)
+    int deleteEmptyForUsers(@Param("userIds") Collection<String> userIds);
+    
+    // 재집계 대상: 매출이 있거나 통계 행이 남아 있는 모든 사용자 (야간 재집계에서 사용자 묶음 단위로 처리)
+    @Query(value = """
+            SELECT user_id FROM sales
+            UNION
+            SELECT user_id FROM sale_statistics
+            ORDER BY 1
+            """, nativeQuery = true)
+    List<String> findReconcileUserIds();
+    
+    // 재집계: 값이 실제로 달라진 행만 갱신해서 드리프트 건수를 반환 (호출 측에서 해당 사용자 잠금을 잡은 뒤 사용)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO sale_statistics (user_id, total_amount, sale_count, min_amount, max_amount, last_sale_date, updated_at)
+            SELECT user_id, SUM(amount), COUNT(*), MIN(amount), MAX(amount), MAX(sale_date), LOCALTIMESTAMP
+            FROM sales
+            WHERE user_id IN (:userIds)
+            GROUP BY user_id
+            ON CONFLICT (user_id) DO UPDATE SET
+                total_amount = EXCLUDED.total_amount,
+                sale_count = EXCLUDED.sale_count,
+                min_amount = EXCLUDED.min_amount,
+                max_amount = EXCLUDED.max_amount,
+                last_sale_date = EXCLUDED.last_sale_date,
+                updated_at = GREATEST(sale_statistics.updated_at + INTERVAL '1 microsecond', EXCLUDED.updated_at)
+            WHERE (sale_statistics.total_amount, sale_statistics.sale_count, sale_statistics.min_amount,
+                   sale_statistics.max_amount, sale_statistics.last_sale_date)
+                  IS DISTINCT FROM
+                  (EXCLUDED.total_amount, EXCLUDED.sale_count, EXCLUDED.min_amount,
+                   EXCLUDED.max_amount, EXCLUDED.last_sale_date)
+            """, nativeQuery = true)
+    int reconcileForUsers(@Param("userIds") Collection<String> userIds);
+}
@@ -0,0 +1,17 @@
+package com.kt.backendapp.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface SaleStatisticsSnapshot {
+    
+    BigDecimal getTotalAmount();
+    
+    Long getSaleCount();
+    
+    BigDecimal getMinAmount();
+    
+    BigDecimal getMaxAmount();
+    
+    LocalDate getLastSaleDate();
+}
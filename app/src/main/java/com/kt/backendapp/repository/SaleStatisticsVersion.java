@@ -0,0 +1,10 @@
+package com.kt.backendapp.repository;
+
+import java.time.LocalDateTime;
+
+public interface SaleStatisticsVersion {
+    
+    Long getSaleCount();
+    
+    LocalDateTime getUpdatedAt();
+}
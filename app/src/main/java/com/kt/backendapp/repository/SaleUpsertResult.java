@@ -0,0 +1,29 @@
+package com.kt.backendapp.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface SaleUpsertResult {
+    
+    Long getId();
+    
+    String getUserId();
+    
+    LocalDate getSaleDate();
+    
+    BigDecimal getAmount();
+    
+    String getStoreName();
+    
+    String getBusinessType();
+    
+    LocalDateTime getCreatedAt();
+    
+    LocalDateTime getUpdatedAt();
+    
+    Boolean getInserted();
+    
+    // 잠근 뒤 읽은 이전 금액. 같은 날짜 행을 동시에 처음 넣어 다른 트랜잭션이 넣은 행을 덮어쓴 경우에만 null
+    BigDecimal getPreviousAmount();
+}
@@ -0,0 +1,335 @@
+package com.kt.backendapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.ReportJobResponse;
+import com.kt.backendapp.dto.ReportRequest;
+import com.kt.backendapp.dto.SaleAggregateResponse;
+import com.kt.backendapp.dto.SaleGranularity;
+import com.kt.backendapp.report.FairPriorityQueue;
+import com.kt.backendapp.report.ReportJob;
+import com.kt.backendapp.report.ReportPriority;
+import com.kt.backendapp.report.ReportStatus;
+import com.kt.backendapp.report.ReportType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 오래 걸리는 보고서(여러 매장 x 여러 해 집계, 여러 매장 CSV)를 요청 스레드 대신 고정 개수 워커에서 만들고 결과는 로컬 디스크에 저장
+// 워커 수가 곧 보고서 작업이 동시에 쓰는 DB 커넥션 최대 수. 대기열은 우선순위 + 요청자(ownerId)별 라운드 로빈 (FairPriorityQueue)
+// 같은 요청이 대기/실행 중이면 새 작업을 만들지 않고 기존 작업을 돌려줌. 작업 상태는 메모리에만 있으므로 재시작하면 조회할 수 없고,
+// 여러 인스턴스로 띄우면 작업을 등록한 인스턴스에서만 조회/내려받기가 됨 (다른 인스턴스는 404)
+@Service
+@Slf4j
+public class ReportJobService {
+
+    // 이 서비스가 만드는 결과/임시 파일 이름 (<작업 UUID>.<확장자>[.tmp]). 정리할 때 다른 파일은 건드리지 않음
+    private static final Pattern RESULT_FILE_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.("
+                    + Arrays.stream(ReportType.values()).map(ReportType::extension).collect(Collectors.joining("|"))
+                    + ")(\\.tmp)?");
+
+    private final SaleService saleService;
+
+    private final SaleTransferService saleTransferService;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Clock clock;
+
+    private final int workerCount;
+
+    private final int maxStores;
+
+    private final Path directory;
+
+    private final Duration retention;
+
+    private final FairPriorityQueue<ReportJob> queue;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    // dedupKey -> 대기/실행 중인 작업
+    private final Map<String, ReportJob> activeJobs = new ConcurrentHashMap<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    public ReportJobService(SaleService saleService,
+                            SaleTransferService saleTransferService,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            Clock clock,
+                            @Value("${app.reports.workers:2}") int workerCount,
+                            @Value("${app.reports.max-queued:100}") int maxQueued,
+                            @Value("${app.reports.max-queued-per-owner:10}") int maxQueuedPerOwner,
+                            @Value("${app.reports.max-stores:500}") int maxStores,
+                            @Value("${app.reports.directory:${java.io.tmpdir}/sajangez-reports}") Path directory,
+                            @Value("${app.reports.retention:24h}") Duration retention) {
+        this.saleService = saleService;
+        this.saleTransferService = saleTransferService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.workerCount = workerCount;
+        this.maxStores = maxStores;
+        this.directory = directory;
+        this.retention = retention;
+        this.queue = new FairPriorityQueue<>(ReportPriority.values().length, maxQueued, maxQueuedPerOwner);
+        Gauge.builder("app.reports.queued", queue, FairPriorityQueue::size)
+                .description("대기 중인 보고서 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        for (int i = 1; i <= workerCount; i++) {
+            workers.add(Thread.ofPlatform().name("report-worker-" + i).daemon(true).start(this::work));
+        }
+        log.info("보고서 작업 워커 시작: workers={}, directory={}", workerCount, directory);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    // 대기열이 가득 차면 RejectedExecutionException, 요청 값이 잘못되면 IllegalArgumentException
+    public ReportJobResponse submit(ReportRequest request) {
+        ReportRequest normalized = normalize(request);
+        String dedupKey = dedupKey(normalized);
+        boolean[] created = {false};
+        ReportJob job = activeJobs.compute(dedupKey, (key, existing) -> {
+            // 워커가 매핑이 생기기 전에 끝내 버린 경우 끝난 작업이 남아 있을 수 있음
+            if (existing != null && !existing.isFinished()) {
+                return existing;
+            }
+            ReportJob newJob = new ReportJob(UUID.randomUUID().toString(), key, normalized, LocalDateTime.now(clock));
+            jobs.put(newJob.getId(), newJob);
+            try {
+                queue.offer(normalized.getOwnerId(), normalized.getPriority().ordinal(), newJob);
+            } catch (RuntimeException e) {
+                // 넣지 못하면 예외가 그대로 나가고 activeJobs 에는 이전 값이 남음
+                jobs.remove(newJob.getId());
+                throw e;
+            }
+            created[0] = true;
+            return newJob;
+        });
+        if (created[0]) {
+            log.info("보고서 작업 등록: jobId={}, type={}, ownerId={}, stores={}, priority={}", job.getId(),
+                    normalized.getType(), normalized.getOwnerId(), normalized.getUserIds().size(), normalized.getPriority());
+        } else {
+            meterRegistry.counter("app.reports.jobs", "type", normalized.getType().name(), "outcome", "deduplicated").increment();
+            log.debug("같은 보고서 작업이 진행 중이어서 재사용: jobId={}", job.getId());
+        }
+        return toResponse(job, !created[0]);
+    }
+
+    public Optional<ReportJobResponse> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> toResponse(job, false));
+    }
+
+    public Optional<ReportJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    // 끝난 지 retention 이 지난 작업과 결과 파일 정리 (이전 실행에서 남은 결과/임시 파일 포함, 이름이 다른 파일은 그대로 둠)
+    @Scheduled(fixedDelayString = "${app.reports.cleanup-interval:10m}")
+    public void cleanup() {
+        LocalDateTime expiredBefore = LocalDateTime.now(clock).minus(retention);
+        int removed = 0;
+        for (ReportJob job : jobs.values()) {
+            if (job.isFinished() && job.getFinishedAt().isBefore(expiredBefore)) {
+                jobs.remove(job.getId());
+                deleteQuietly(job.getResultFile());
+                removed++;
+            }
+        }
+        activeJobs.values().removeIf(ReportJob::isFinished);
+        Instant staleBefore = clock.instant().minus(retention);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (RESULT_FILE_NAME.matcher(file.getFileName().toString()).matches()
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(staleBefore)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("보고서 디렉터리 정리 실패: directory={}", directory, e);
+        }
+        if (removed > 0) {
+            log.info("만료된 보고서 작업 정리: removed={}", removed);
+        }
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            ReportJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            run(job);
+        }
+    }
+
+    private void run(ReportJob job) {
+        ReportRequest request = job.getRequest();
+        job.markRunning(LocalDateTime.now(clock));
+        log.info("보고서 작업 시작: jobId={}, type={}", job.getId(), request.getType());
+        long started = System.nanoTime();
+        Path file = directory.resolve(job.getId() + "." + request.getType().extension());
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        String outcome = "succeeded";
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                switch (request.getType()) {
+                    case SALES_BREAKDOWN -> writeBreakdown(request, out);
+                    case SALES_EXPORT -> saleTransferService.exportCsv(request.getUserIds(), exportFrom(request), exportTo(request), out);
+                }
+            }
+            // 다 쓴 파일만 결과 이름으로 보이도록 옮김
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.markSucceeded(LocalDateTime.now(clock), file, Files.size(file));
+            log.info("보고서 작업 완료: jobId={}, bytes={}, elapsedMs={}", job.getId(), job.getResultSize(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            outcome = "failed";
+            deleteQuietly(temp);
+            job.markFailed(LocalDateTime.now(clock), e.getMessage());
+            log.error("보고서 작업 실패: jobId={}, type={}", job.getId(), request.getType(), e);
+        } finally {
+            activeJobs.remove(job.getDedupKey(), job);
+            meterRegistry.counter("app.reports.jobs", "type", request.getType().name(), "outcome", outcome).increment();
+        }
+    }
+
+    // 매장 하나씩 집계해 바로 파일에 씀 (전체 결과를 메모리에 모으지 않음)
+    private void writeBreakdown(ReportRequest request, OutputStream out) throws IOException {
+        SaleGranularity granularity = SaleGranularity.from(request.getGranularity());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("ownerId", request.getOwnerId());
+            generator.writeStringField("granularity", granularity.dateTruncUnit());
+            generator.writeStringField("from", request.getFrom().toString());
+            generator.writeStringField("to", request.getTo().toString());
+            generator.writeArrayFieldStart("stores");
+            for (String userId : request.getUserIds()) {
+                List<SaleAggregateResponse> buckets = saleService.getSalesAggregate(
+                        userId, granularity, request.getFrom(), request.getTo());
+                generator.writeStartObject();
+                generator.writeStringField("userId", userId);
+                generator.writeFieldName("buckets");
+                generator.writeObject(buckets);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private ReportRequest normalize(ReportRequest request) {
+        // TreeSet 은 null 을 넣으면 NPE 이므로 정렬 전에 원래 목록에서 확인
+        if (request.getUserIds().stream().anyMatch(userId -> userId == null || userId.isBlank())) {
+            throw new IllegalArgumentException("매장(userId) 목록에 빈 값이 있습니다.");
+        }
+        // 순서와 중복이 달라도 같은 요청으로 봄
+        List<String> userIds = new ArrayList<>(new TreeSet<>(request.getUserIds()));
+        if (userIds.size() > maxStores) {
+            throw new IllegalArgumentException("한 보고서에 최대 " + maxStores + "개 매장까지 요청할 수 있습니다.");
+        }
+        ReportRequest normalized = ReportRequest.builder()
+                .ownerId(request.getOwnerId())
+                .type(request.getType())
+                .priority(request.getPriority() == null ? ReportPriority.NORMAL : request.getPriority())
+                .userIds(List.copyOf(userIds))
+                .from(request.getFrom())
+                .to(request.getTo())
+                .build();
+        if (request.getType() == ReportType.SALES_BREAKDOWN) {
+            if (request.getFrom() == null || request.getTo() == null) {
+                throw new IllegalArgumentException("기간별 집계 보고서는 시작일(from)과 종료일(to)이 필요합니다.");
+            }
+            normalized.setGranularity(SaleGranularity.from(request.getGranularity() == null ? "month" : request.getGranularity())
+                    .dateTruncUnit());
+        }
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return normalized;
+    }
+
+    // 우선순위는 키에 넣지 않음 (같은 결과를 만드는 요청이면 먼저 들어온 작업을 그대로 씀)
+    private static String dedupKey(ReportRequest request) {
+        return String.join("|", request.getType().name(), request.getOwnerId(), String.join(",", request.getUserIds()),
+                String.valueOf(request.getFrom()), String.valueOf(request.getTo()), String.valueOf(request.getGranularity()));
+    }
+
+    private static LocalDate exportFrom(ReportRequest request) {
+        return request.getFrom() != null ? request.getFrom() : SaleTransferService.EXPORT_MIN_DATE;
+    }
+
+    private static LocalDate exportTo(ReportRequest request) {
+        return request.getTo() != null ? request.getTo() : SaleTransferService.EXPORT_MAX_DATE;
+    }
+
+    private static ReportJobResponse toResponse(ReportJob job, boolean deduplicated) {
+        ReportRequest request = job.getRequest();
+        return ReportJobResponse.builder()
+                .id(job.getId())
+                .type(request.getType())
+                .priority(request.getPriority())
+                .ownerId(request.getOwnerId())
+                .status(job.getStatus())
+                .deduplicated(deduplicated)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .resultSize(job.getStatus() == ReportStatus.SUCCEEDED ? job.getResultSize() : null)
+                .error(job.getError())
+                .build();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("보고서 파일 삭제 실패: file={}", file, e);
+        }
+    }
+}
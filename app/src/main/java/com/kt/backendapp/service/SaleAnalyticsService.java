@@ -0,0 +1,189 @@
+package com.kt.backendapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.backendapp.analytics.SaleColumns;
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleSummaryResponse;
+import com.kt.backendapp.entity.Sale;
+import com.kt.backendapp.event.SaleChangedEvent;
+import com.kt.backendapp.event.SaleDayChanges;
+import com.kt.backendapp.repository.SaleDailyAmount;
+import com.kt.backendapp.repository.SaleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 기간 매출 요약 (합계/평균/요일별/최고·최저일)
+// app.analytics.columnar.enabled 이면 사용자별 전체 이력을 SaleColumns 로 메모리에 올려 두고 원시 배열로 계산 (기간 합계는 누적합으로 O(log n))
+// 적재한 배열은 데이터 버전과 함께 두고, 이 인스턴스의 SaleService 쓰기는 커밋 후 바뀐 날짜만 반영해 새 버전으로 올림 (onSaleChanged)
+// 요청의 버전(SaleQueryCacheService.getDataVersion)과 여전히 다르면(다른 인스턴스의 쓰기, 일괄 저장, 파티션 보관 등) 다시 적재
+// 꺼져 있으면 기간 내 Sale 엔티티를 읽어 BigDecimal 로 계산
+@Service
+@Slf4j
+public class SaleAnalyticsService {
+
+    private final SaleRepository saleRepository;
+
+    private final TransactionTemplate readTransaction;
+
+    // 캐시에 오래 남는 값이므로 replica 지연 없이 primary 에서 읽음
+    private final TransactionTemplate loadTransaction;
+
+    // 꺼져 있으면 null. 메모리 한도(max-memory)를 넘으면 최근에 덜 쓰인 사용자부터 내림
+    private final Cache<String, VersionedColumns> columns;
+
+    public SaleAnalyticsService(SaleRepository saleRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.analytics.columnar.enabled:true}") boolean columnarEnabled,
+                                @Value("${app.analytics.columnar.max-memory:64MB}") DataSize maxMemory) {
+        this.saleRepository = saleRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        if (columnarEnabled) {
+            this.columns = Caffeine.newBuilder()
+                    .maximumWeight(maxMemory.toBytes())
+                    .weigher((String userId, VersionedColumns value) -> (int) Math.min(Integer.MAX_VALUE, value.columns().estimatedBytes()))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, columns, "sales-columnar");
+            log.info("열 지향 매출 분석 저장소 사용: maxMemory={}", maxMemory);
+        } else {
+            this.columns = null;
+        }
+    }
+
+    public SaleSummaryResponse getSummary(String userId, SaleDataVersion version, LocalDate from, LocalDate to) {
+        log.debug("기간 매출 요약 조회: userId={}, from={}, to={}", userId, from, to);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (columns == null) {
+            return readTransaction.execute(status -> summarize(userId, from, to,
+                    saleRepository.findByUserIdAndSaleDateBetweenOrderBySaleDate(userId, from, to)));
+        }
+        VersionedColumns cached = columns.get(userId, id -> new VersionedColumns(version, load(id)));
+        if (!cached.version().equals(version)) {
+            // 버전이 바뀌었으면 다시 적재. 그 사이 다른 요청이 바꿔 넣었으면 그 항목은 그대로 둠
+            VersionedColumns loaded = new VersionedColumns(version, load(userId));
+            columns.asMap().replace(userId, cached, loaded);
+            cached = loaded;
+        }
+        return summarize(userId, from, to, cached.columns());
+    }
+
+    // 적재해 둔 배열이 변경 직전 버전일 때만 바뀐 날짜를 반영 (그 사이 다른 변경이 끼었으면 두고 다음 조회에서 다시 적재)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaleChanged(SaleChangedEvent event) {
+        SaleDayChanges changes = event.changes();
+        if (columns == null || changes == null) {
+            return;
+        }
+        columns.asMap().computeIfPresent(event.userId(), (userId, cached) -> cached.version().equals(changes.before())
+                ? new VersionedColumns(changes.after(), cached.columns().withChanges(changes.amounts()))
+                : cached);
+    }
+
+    private SaleColumns load(String userId) {
+        List<SaleDailyAmount> rows = loadTransaction.execute(status -> saleRepository.findDailyAmountsByUserId(userId));
+        SaleColumns.Builder builder = SaleColumns.builder(rows.size());
+        for (SaleDailyAmount row : rows) {
+            builder.add(row.getSaleDate(), row.getAmount());
+        }
+        SaleColumns loaded = builder.build();
+        log.debug("매출 열 데이터 적재: userId={}, rows={}, bytes={}", userId, loaded.size(), loaded.estimatedBytes());
+        return loaded;
+    }
+
+    private static SaleSummaryResponse summarize(String userId, LocalDate from, LocalDate to, SaleColumns columns) {
+        long[] weekdaySums = columns.weekdaySums(from, to);
+        int[] weekdayCounts = columns.weekdayCounts(from, to);
+        List<SaleSummaryResponse.Weekday> weekdays = new ArrayList<>(7);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            weekdays.add(SaleSummaryResponse.Weekday.builder()
+                    .dayOfWeek(dayOfWeek)
+                    .salesCount(weekdayCounts[dayOfWeek.ordinal()])
+                    .totalSales(SaleColumns.fromMinorUnits(weekdaySums[dayOfWeek.ordinal()]))
+                    .build());
+        }
+        int best = columns.maxIndex(from, to);
+        int worst = columns.minIndex(from, to);
+        return response(userId, from, to, columns.count(from, to), SaleColumns.fromMinorUnits(columns.sum(from, to)), weekdays,
+                best < 0 ? null : day(columns.dateAt(best), SaleColumns.fromMinorUnits(columns.amountAt(best))),
+                worst < 0 ? null : day(columns.dateAt(worst), SaleColumns.fromMinorUnits(columns.amountAt(worst))));
+    }
+
+    private static SaleSummaryResponse summarize(String userId, LocalDate from, LocalDate to, List<Sale> sales) {
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal[] weekdaySums = new BigDecimal[7];
+        int[] weekdayCounts = new int[7];
+        Sale best = null;
+        Sale worst = null;
+        for (Sale sale : sales) {
+            int weekday = sale.getSaleDate().getDayOfWeek().ordinal();
+            total = total.add(sale.getAmount());
+            weekdaySums[weekday] = weekdaySums[weekday] == null ? sale.getAmount() : weekdaySums[weekday].add(sale.getAmount());
+            weekdayCounts[weekday]++;
+            if (best == null || sale.getAmount().compareTo(best.getAmount()) > 0) {
+                best = sale;
+            }
+            if (worst == null || sale.getAmount().compareTo(worst.getAmount()) < 0) {
+                worst = sale;
+            }
+        }
+        List<SaleSummaryResponse.Weekday> weekdays = new ArrayList<>(7);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            BigDecimal weekdaySum = weekdaySums[dayOfWeek.ordinal()];
+            weekdays.add(SaleSummaryResponse.Weekday.builder()
+                    .dayOfWeek(dayOfWeek)
+                    .salesCount(weekdayCounts[dayOfWeek.ordinal()])
+                    .totalSales(weekdaySum == null ? SaleColumns.fromMinorUnits(0) : weekdaySum.setScale(2))
+                    .build());
+        }
+        return response(userId, from, to, sales.size(), total.setScale(2), weekdays,
+                best == null ? null : day(best.getSaleDate(), best.getAmount()),
+                worst == null ? null : day(worst.getSaleDate(), worst.getAmount()));
+    }
+
+    private static SaleSummaryResponse response(String userId, LocalDate from, LocalDate to, long count, BigDecimal total,
+                                                List<SaleSummaryResponse.Weekday> weekdays,
+                                                SaleSummaryResponse.Day bestDay, SaleSummaryResponse.Day worstDay) {
+        return SaleSummaryResponse.builder()
+                .userId(userId)
+                .from(from)
+                .to(to)
+                .salesCount(count)
+                .totalSales(total)
+                .averageSales(count == 0 ? null : total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP))
+                .weekdays(weekdays)
+                .bestDay(bestDay)
+                .worstDay(worstDay)
+                .build();
+    }
+
+    private static SaleSummaryResponse.Day day(LocalDate date, BigDecimal amount) {
+        return SaleSummaryResponse.Day.builder()
+                .date(date)
+                .amount(amount)
+                .build();
+    }
+
+    // version 은 적재 직전에 읽은 버전이므로 columns 는 적어도 그 버전 이후의 데이터
+    private record VersionedColumns(SaleDataVersion version, SaleColumns columns) {
+    }
+}
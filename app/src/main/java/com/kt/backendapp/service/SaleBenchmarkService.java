@@ -0,0 +1,137 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.analytics.KllSketch;
+import com.kt.backendapp.dto.SaleBenchmarkResponse;
+import com.kt.backendapp.repository.SaleBenchmarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 업종(businessType)별 매장 매출 분포를 주기적으로 KLL 스케치로 만들어 두고, 조회 시에는 요청한 매장 한 곳의 값만 읽어 백분위를 계산
+// 업종당 스케치 2개(일 평균, 월 합계)만 메모리에 두므로 매장 수가 늘어도 크기가 거의 일정함
+@Service
+@Slf4j
+public class SaleBenchmarkService {
+
+    private final SaleBenchmarkRepository saleBenchmarkRepository;
+
+    private final Clock clock;
+
+    private final int dailyWindowDays;
+
+    private final int sketchK;
+
+    // 첫 생성 전에는 null
+    private volatile Snapshot snapshot;
+
+    public SaleBenchmarkService(SaleBenchmarkRepository saleBenchmarkRepository,
+                                Clock clock,
+                                @Value("${app.benchmark.daily-window-days:30}") int dailyWindowDays,
+                                @Value("${app.benchmark.sketch-k:200}") int sketchK) {
+        this.saleBenchmarkRepository = saleBenchmarkRepository;
+        this.clock = clock;
+        this.dailyWindowDays = dailyWindowDays;
+        this.sketchK = sketchK;
+    }
+
+    // 기동 직후 한 번, 이후 rebuild-interval 마다 최근 기간 매출을 한 번 훑어 새 스냅샷으로 교체
+    @Scheduled(fixedDelayString = "${app.benchmark.rebuild-interval:1h}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        Periods periods = Periods.endingBefore(LocalDate.now(clock), dailyWindowDays);
+        Map<String, Distribution> distributions = new HashMap<>();
+        saleBenchmarkRepository.forEachStoreSummary(periods.dailyFrom(), periods.dailyTo(), periods.monthFrom(), periods.monthTo(),
+                summary -> {
+                    Distribution distribution = distributions.computeIfAbsent(summary.businessType(),
+                            type -> new Distribution(new KllSketch(sketchK), new KllSketch(sketchK)));
+                    if (summary.dailyAverage() != null) {
+                        distribution.daily().update(summary.dailyAverage().doubleValue());
+                    }
+                    if (summary.monthTotal() != null) {
+                        distribution.monthly().update(summary.monthTotal().doubleValue());
+                    }
+                });
+        snapshot = new Snapshot(periods, Map.copyOf(distributions), LocalDateTime.now(clock));
+
+        long stores = distributions.values().stream().mapToLong(distribution -> distribution.daily().getCount()).sum();
+        long retained = distributions.values().stream()
+                .mapToLong(distribution -> distribution.daily().getRetained() + distribution.monthly().getRetained())
+                .sum();
+        log.info("업종별 매출 분포 갱신: businessTypes={}, stores={}, retainedValues={}, elapsedMs={}",
+                distributions.size(), stores, retained, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 최근 기간 매출이 없어 업종을 알 수 없으면 empty
+    @Transactional(readOnly = true)
+    public Optional<SaleBenchmarkResponse> getBenchmark(String userId) {
+        log.debug("업종별 매출 비교 조회: userId={}", userId);
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("업종별 비교 데이터를 준비 중입니다.");
+        }
+        Periods periods = current.periods();
+        return saleBenchmarkRepository.findStoreSummary(userId, periods.dailyFrom(), periods.dailyTo(),
+                        periods.monthFrom(), periods.monthTo())
+                .map(summary -> {
+                    Distribution distribution = current.distributions().get(summary.businessType());
+                    return SaleBenchmarkResponse.builder()
+                            .userId(userId)
+                            .businessType(summary.businessType())
+                            .builtAt(current.builtAt())
+                            .daily(metric(periods.dailyFrom(), periods.dailyTo(),
+                                    distribution == null ? null : distribution.daily(), summary.dailyAverage()))
+                            .monthly(metric(periods.monthFrom(), periods.monthTo(),
+                                    distribution == null ? null : distribution.monthly(), summary.monthTotal()))
+                            .build();
+                });
+    }
+
+    private SaleBenchmarkResponse.Metric metric(LocalDate from, LocalDate to, KllSketch sketch, BigDecimal value) {
+        SaleBenchmarkResponse.Metric.MetricBuilder metric = SaleBenchmarkResponse.Metric.builder()
+                .from(from)
+                .to(to)
+                .value(value == null ? null : value.setScale(2, RoundingMode.HALF_UP));
+        if (sketch == null || sketch.getCount() == 0) {
+            return metric.storeCount(0).build();
+        }
+        return metric.storeCount(sketch.getCount())
+                .percentile(value == null ? null : scaled(sketch.cdf(value.doubleValue()) * 100, 1))
+                .p25(scaled(sketch.quantile(0.25), 2))
+                .median(scaled(sketch.quantile(0.5), 2))
+                .p75(scaled(sketch.quantile(0.75), 2))
+                .p90(scaled(sketch.quantile(0.9), 2))
+                .build();
+    }
+
+    private static BigDecimal scaled(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    // 일 평균은 오늘을 뺀 최근 days 일, 월 합계는 지난달 (둘 다 마감된 기간만 비교)
+    private record Periods(LocalDate dailyFrom, LocalDate dailyTo, LocalDate monthFrom, LocalDate monthTo) {
+
+        static Periods endingBefore(LocalDate today, int days) {
+            YearMonth lastMonth = YearMonth.from(today).minusMonths(1);
+            return new Periods(today.minusDays(days), today.minusDays(1), lastMonth.atDay(1), lastMonth.atEndOfMonth());
+        }
+    }
+
+    private record Distribution(KllSketch daily, KllSketch monthly) {
+    }
+
+    private record Snapshot(Periods periods, Map<String, Distribution> distributions, LocalDateTime builtAt) {
+    }
+}
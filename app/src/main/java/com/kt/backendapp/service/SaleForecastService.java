@@ -0,0 +1,257 @@
+package com.kt.backendapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleForecastResponse;
+import com.kt.backendapp.entity.Sale;
+import com.kt.backendapp.forecast.SaleForecastModel;
+import com.kt.backendapp.repository.SaleForecastModelRepository;
+import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자별 매출 예측 (요일별 계절성 + 지수평활, SaleForecastModel)
+// 모델 상태는 sale_forecast_models 에 저장하고, 야간 배치가 settle-days 이전까지 확정된 날짜만 이어서 반영 (전체 이력 재학습 없음)
+// 조회 시에는 저장된 상태 이후의 최근 며칠만 읽어 복사본에 반영하므로, 늦게 입력/수정된 최근 매출도 예측에 바로 나타남
+@Service
+@Slf4j
+public class SaleForecastService {
+
+    public static final int MAX_FORECAST_DAYS = 90;
+
+    private final SaleRepository saleRepository;
+
+    private final SaleForecastModelRepository saleForecastModelRepository;
+
+    private final SaleStatisticsRepository saleStatisticsRepository;
+
+    private final TransactionTemplate readTransaction;
+
+    private final TransactionTemplate writeTransaction;
+
+    private final Clock clock;
+
+    private final double alpha;
+
+    private final double gamma;
+
+    private final int settleDays;
+
+    private final int warmupDays;
+
+    private final int parallelism;
+
+    private final Cache<CacheKey, SaleForecastResponse> cache;
+
+    // 학습은 스케줄러 스레드를 붙잡지 않도록 전용 스레드에서 실행 (outbox 릴레이 등 다른 스케줄 작업이 밀리지 않게)
+    private final ExecutorService trainingExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("sale-forecast-training").daemon(true).factory());
+
+    private final AtomicBoolean training = new AtomicBoolean();
+
+    public SaleForecastService(SaleRepository saleRepository,
+                               SaleForecastModelRepository saleForecastModelRepository,
+                               SaleStatisticsRepository saleStatisticsRepository,
+                               PlatformTransactionManager transactionManager,
+                               Clock clock,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.forecast.alpha:0.3}") double alpha,
+                               @Value("${app.forecast.gamma:0.2}") double gamma,
+                               @Value("${app.forecast.settle-days:7}") int settleDays,
+                               @Value("${app.forecast.warmup-days:56}") int warmupDays,
+                               @Value("${app.forecast.training-parallelism:4}") int parallelism,
+                               @Value("${app.forecast.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.saleRepository = saleRepository;
+        this.saleForecastModelRepository = saleForecastModelRepository;
+        this.saleStatisticsRepository = saleStatisticsRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // 사용자별 학습은 학습 잠금을 잡은 트랜잭션에 참여하지 않고 각자 커밋 (한 사용자 실패가 전체를 롤백시키지 않음)
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.alpha = alpha;
+        this.gamma = gamma;
+        this.settleDays = settleDays;
+        this.warmupDays = warmupDays;
+        this.parallelism = parallelism;
+        // 버전에 오늘 날짜가 들어가므로 하루가 지난 항목은 다시 조회되지 않음
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sales-forecast");
+    }
+
+    // version 은 오늘 날짜가 포함된 버전(getDataVersionAsOfToday)이므로 매출 변경이나 날짜가 바뀌면 새로 계산
+    public SaleForecastResponse getForecast(String userId, SaleDataVersion version, int days) {
+        if (days < 1 || days > MAX_FORECAST_DAYS) {
+            throw new IllegalArgumentException("예측 일수는 1 ~ " + MAX_FORECAST_DAYS + " 사이여야 합니다.");
+        }
+        return cache.get(new CacheKey(userId, version, days),
+                key -> readTransaction.execute(status -> forecast(userId, days)));
+    }
+
+    // 스케줄러 스레드에서는 학습을 전용 스레드에 넘기기만 함. 이전 학습이 아직 끝나지 않았으면 이번 회차는 건너뜀
+    @Scheduled(cron = "${app.forecast.training-cron:0 50 3 * * *}")
+    public void trainAll() {
+        if (!training.compareAndSet(false, true)) {
+            log.info("이전 매출 예측 모델 학습이 진행 중 - 건너뜀");
+            return;
+        }
+        try {
+            trainingExecutor.execute(() -> {
+                try {
+                    trainAllWithLock();
+                } catch (RuntimeException e) {
+                    log.error("매출 예측 모델 학습 실패", e);
+                } finally {
+                    training.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            training.set(false);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        trainingExecutor.shutdownNow();
+    }
+
+    // 사용자별 학습은 서로 독립이므로 전용 ForkJoinPool 에서 병렬로 처리 (동시 DB 커넥션 수 = training-parallelism + 잠금용 1)
+    // 잠금은 학습이 끝날 때까지 열어 둔 트랜잭션에서 잡으므로, 다른 인스턴스는 그동안 건너뜀
+    // (잠금용 커넥션은 학습 동안 하나를 계속 차지하지만 학습 스레드에서만 쓰므로 스케줄러나 요청 처리를 막지는 않음)
+    private void trainAllWithLock() {
+        writeTransaction.executeWithoutResult(status -> {
+            if (!saleForecastModelRepository.tryLockTraining()) {
+                log.info("다른 인스턴스가 매출 예측 모델 학습 중 - 건너뜀");
+                return;
+            }
+            trainAllUsers();
+        });
+    }
+
+    private void trainAllUsers() {
+        LocalDate cutoff = LocalDate.now(clock).minusDays(settleDays);
+        List<String> userIds = saleStatisticsRepository.findAllUserIds();
+        log.info("매출 예측 모델 학습 시작: users={}, cutoff={}, parallelism={}", userIds.size(), cutoff, parallelism);
+
+        AtomicInteger trained = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            pool.submit(() -> userIds.parallelStream().forEach(userId -> {
+                try {
+                    if (Boolean.TRUE.equals(writeTransaction.execute(status -> train(userId, cutoff)))) {
+                        trained.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    log.warn("매출 예측 모델 학습 실패: userId={}", userId, e);
+                }
+            })).join();
+        }
+        cache.invalidateAll();
+        log.info("매출 예측 모델 학습 완료: trained={}, failed={}", trained.get(), failed.get());
+    }
+
+    // 저장된 상태 이후 cutoff 까지의 일별 매출만 읽어 반영. 처음이면 cutoff 이전 warmup-days 구간으로 시작
+    // 관측이 하나도 없으면 저장하지 않음 (lastDate 만 cutoff 로 옮겨 저장하면 다음 학습이 warmup 구간 대신 하루치로 초기화됨)
+    private boolean train(String userId, LocalDate cutoff) {
+        SaleForecastModel model = findTrainedModel(userId)
+                .orElseGet(() -> SaleForecastModel.empty(cutoff.minusDays(warmupDays)));
+        if (!model.getLastDate().isBefore(cutoff)) {
+            return false;
+        }
+        model.observeAll(observations(userId, model.getLastDate().plusDays(1), cutoff), alpha, gamma);
+        if (model.getObservations() == 0) {
+            return false;
+        }
+        model.advanceTo(cutoff);
+        saleForecastModelRepository.save(userId, model);
+        return true;
+    }
+
+    private SaleForecastResponse forecast(String userId, int days) {
+        log.debug("매출 예측 계산: userId={}, days={}", userId, days);
+        LocalDate today = LocalDate.now(clock);
+        SaleForecastModel model = findTrainedModel(userId)
+                .orElseGet(() -> SaleForecastModel.empty(today.minusDays(warmupDays)));
+        // 아직 확정되지 않은 최근 매출은 저장하지 않고 복사본에만 반영
+        SaleForecastModel current = model.copy();
+        current.observeAll(observations(userId, model.getLastDate().plusDays(1), today), alpha, gamma);
+
+        List<SaleForecastResponse.Day> forecastDays = new ArrayList<>(days);
+        if (current.getObservations() > 0) {
+            double margin = current.margin();
+            for (int i = 1; i <= days; i++) {
+                LocalDate date = today.plusDays(i);
+                double expected = current.predict(date);
+                forecastDays.add(SaleForecastResponse.Day.builder()
+                        .date(date)
+                        .expectedSales(amount(expected))
+                        .lowerBound(amount(Math.max(0, expected - margin)))
+                        .upperBound(amount(expected + margin))
+                        .build());
+            }
+        }
+
+        return SaleForecastResponse.builder()
+                .userId(userId)
+                .trainedThrough(current.getLastDate())
+                .observations(current.getObservations())
+                .days(forecastDays)
+                .build();
+    }
+
+    // 관측 없이 저장된 모델은 없는 것으로 보고 warmup 구간부터 다시 시작
+    private Optional<SaleForecastModel> findTrainedModel(String userId) {
+        return saleForecastModelRepository.findByUserId(userId)
+                .filter(model -> model.getObservations() > 0);
+    }
+
+    private List<SaleForecastModel.Observation> observations(String userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        List<Sale> sales = saleRepository.findByUserIdAndSaleDateBetweenOrderBySaleDate(userId, from, to);
+        List<SaleForecastModel.Observation> observations = new ArrayList<>(sales.size());
+        for (Sale sale : sales) {
+            observations.add(new SaleForecastModel.Observation(sale.getSaleDate(), sale.getAmount().doubleValue()));
+        }
+        return observations;
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private record CacheKey(String userId, SaleDataVersion version, int days) {
+    }
+}
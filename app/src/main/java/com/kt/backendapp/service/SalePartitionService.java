@@ -0,0 +1,139 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.event.SaleChangedEvent;
+import com.kt.backendapp.repository.SaleOutboxRepository;
+import com.kt.backendapp.repository.SalePartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+// sales 연도별 파티션 유지: 앞으로 쓸 연도 파티션을 미리 만들고, 기본 파티션에 쌓인 행을 연도 파티션으로 옮기고,
+// 설정된 보관 기간이 지난 파티션은 분리해 archive 스키마로 이동
+@Service
+@Slf4j
+public class SalePartitionService {
+
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // 보관한 파티션의 사용자 통계를 다시 집계할 때 한 번에 넘기는 사용자 수
+    private static final int RECOMPUTE_CHUNK_SIZE = 1000;
+
+    private final SalePartitionRepository salePartitionRepository;
+
+    private final SaleStatisticsService saleStatisticsService;
+
+    private final SaleOutboxRepository saleOutboxRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transaction;
+
+    private final Clock clock;
+
+    private final int premakeYears;
+
+    private final int archiveAfterYears;
+
+    private final String archiveSchema;
+
+    public SalePartitionService(SalePartitionRepository salePartitionRepository,
+                                SaleStatisticsService saleStatisticsService,
+                                SaleOutboxRepository saleOutboxRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                Clock clock,
+                                @Value("${app.partitions.sales.premake-years:1}") int premakeYears,
+                                @Value("${app.partitions.sales.archive-after-years:0}") int archiveAfterYears,
+                                @Value("${app.partitions.sales.archive-schema:sales_archive}") String archiveSchema) {
+        if (!SCHEMA_NAME.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("app.partitions.sales.archive-schema 형식이 올바르지 않습니다: " + archiveSchema);
+        }
+        this.salePartitionRepository = salePartitionRepository;
+        this.saleStatisticsService = saleStatisticsService;
+        this.saleOutboxRepository = saleOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.premakeYears = premakeYears;
+        this.archiveAfterYears = archiveAfterYears;
+        this.archiveSchema = archiveSchema;
+    }
+
+    // 배포 직후(연초 첫 기동 등)에도 올해 파티션이 있도록 기동 시에도 실행
+    // 파티션 변경을 커밋한 뒤 보관한 사용자 통계를 묶음별 트랜잭션에서 다시 집계
+    // (DETACH 가 sales 를 잠근 채로 사용자 잠금을 기다리면, 사용자 잠금을 잡고 sales 에 쓰려는 요청과 교착됨)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.sales.maintenance-cron:0 10 3 * * *}")
+    public void maintain() {
+        List<String> archivedUserIds = transaction.execute(status -> maintainPartitions());
+        for (int from = 0; from < archivedUserIds.size(); from += RECOMPUTE_CHUNK_SIZE) {
+            List<String> chunk = archivedUserIds.subList(from, Math.min(from + RECOMPUTE_CHUNK_SIZE, archivedUserIds.size()));
+            transaction.executeWithoutResult(status -> recompute(chunk));
+        }
+    }
+
+    // 보관한 파티션의 사용자 목록을 반환
+    private List<String> maintainPartitions() {
+        if (!salePartitionRepository.tryLock()) {
+            log.debug("다른 인스턴스가 매출 파티션 정리 중 - 건너뜀");
+            return List.of();
+        }
+        int currentYear = LocalDate.now(clock).getYear();
+        TreeSet<Integer> existing = new TreeSet<>(salePartitionRepository.findPartitionYears());
+
+        TreeSet<Integer> missing = new TreeSet<>();
+        for (int year = currentYear; year <= currentYear + premakeYears; year++) {
+            missing.add(year);
+        }
+        missing.addAll(salePartitionRepository.findYearsInDefaultPartition());
+        missing.removeAll(existing);
+        if (archiveAfterYears > 0) {
+            // 이미 보관한 연도의 늦은 입력은 기본 파티션에 남겨 둠 (같은 이름으로 다시 만들어 보관하면 archive 스키마에서 충돌)
+            missing.removeIf(year -> year < currentYear - archiveAfterYears);
+        }
+        for (int year : missing) {
+            int moved = salePartitionRepository.createYearPartition(year);
+            existing.add(year);
+            log.info("매출 파티션 생성: sales_y{}, 기본 파티션에서 옮긴 행={}", year, moved);
+        }
+
+        TreeSet<String> archivedUserIds = new TreeSet<>();
+        if (archiveAfterYears > 0) {
+            List<Integer> cold = existing.headSet(currentYear - archiveAfterYears).stream().toList();
+            for (int year : cold) {
+                archivedUserIds.addAll(archive(year));
+            }
+        }
+        return new ArrayList<>(archivedUserIds);
+    }
+
+    // 보관한 행은 sales 에서 빠지므로 반환한 사용자들의 통계를 maintain 에서 다시 집계
+    private List<String> archive(int year) {
+        List<String> userIds = salePartitionRepository.findUserIds(year);
+        salePartitionRepository.detachToArchive(year, archiveSchema);
+        log.info("매출 파티션 보관: sales_y{} -> {}.sales_y{}, users={}", year, archiveSchema, year, userIds.size());
+        return userIds;
+    }
+
+    // 쓰기 경로와 같은 사용자 잠금을 잡고 집계해야 동시에 커밋된 매출 변경을 옛 집계로 덮어쓰지 않음
+    // 커밋 후 조회 캐시/데이터 버전이 무효화되도록 변경 이벤트 발행
+    // (집계 전에 중단되면 남은 사용자는 야간 통계 재집계가 바로잡음)
+    private void recompute(List<String> userIds) {
+        saleOutboxRepository.lockUsers(userIds);
+        saleStatisticsService.recomputeForUsers(userIds);
+        userIds.forEach(userId -> eventPublisher.publishEvent(new SaleChangedEvent(userId)));
+    }
+}
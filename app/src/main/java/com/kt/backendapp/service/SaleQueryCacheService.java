@@ -0,0 +1,155 @@
+package com.kt.backendapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.backendapp.cache.CacheInvalidationBus;
+import com.kt.backendapp.cache.CacheInvalidationMessage;
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.event.SaleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// SaleService 조회 결과를 사용자 + 조회 형태 단위로 캐시하고, 쓰기 커밋 시 해당 사용자의 세대를 올려 이전 항목을 무효화
+// 데이터 버전(ETag)도 사용자별 세대 항목에 두어 캐시 적중 시 DB 왕복 없이 응답하고, 무효화(로컬 커밋 / 다른 인스턴스 메시지) 또는 version-ttl 이 지나면 다시 읽음
+@Service
+@Slf4j
+public class SaleQueryCacheService {
+    
+    static final String CACHE_NAME = "sales";
+    
+    private final SaleService saleService;
+    
+    private final SaleStatisticsService saleStatisticsService;
+    
+    private final CacheInvalidationBus invalidationBus;
+    
+    // 버전과 조회 결과는 캐시에 남는 값이므로 replica 지연 없이 primary 에서 읽음
+    private final TransactionTemplate loadTransaction;
+    
+    private final Clock clock;
+    
+    private final Cache<CacheKey, Object> cache;
+    
+    // 사용자별 세대 번호 + 데이터 버전. 조회 도중 무효화가 일어나면 이전 세대 키로 저장되어 다시 읽히지 않음
+    private final Cache<String, AtomicReference<Generation>> generations;
+    
+    // 무효화 메시지가 오지 않는 경우(단일 인스턴스용 버스로 여러 인스턴스를 띄운 경우 등) 다른 인스턴스의 쓰기가 보이기까지 최대 지연
+    private final long versionTtlNanos;
+    
+    // 자기가 보낸 무효화 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    public SaleQueryCacheService(SaleService saleService,
+                                 SaleStatisticsService saleStatisticsService,
+                                 CacheInvalidationBus invalidationBus,
+                                 PlatformTransactionManager transactionManager,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.sales.maximum-rows:200000}") long maximumRows,
+                                 @Value("${app.cache.sales.ttl:5m}") Duration ttl,
+                                 @Value("${app.cache.sales.version-ttl:10s}") Duration versionTtl) {
+        this.saleService = saleService;
+        this.saleStatisticsService = saleStatisticsService;
+        this.invalidationBus = invalidationBus;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.versionTtlNanos = versionTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumRows)
+                .weigher((CacheKey key, Object value) -> value instanceof List<?> list ? list.size() + 1 : 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(ttl.multipliedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+    
+    // 조건부 GET 의 ETag/Last-Modified 와 조회 캐시 키에 쓰는 사용자 매출 데이터 버전
+    public SaleDataVersion getDataVersion(String userId) {
+        AtomicReference<Generation> holder = generation(userId);
+        Generation current = holder.get();
+        long now = System.nanoTime();
+        if (current.version() != null && now - current.loadedAtNanos() < versionTtlNanos) {
+            return current.version();
+        }
+        SaleDataVersion version = loadTransaction.execute(status -> saleStatisticsService.getDataVersion(userId));
+        // 읽는 동안 무효화됐으면(세대가 바뀌었으면) 저장하지 않음
+        holder.compareAndSet(current, new Generation(current.number(), version, now));
+        return version;
+    }
+    
+    // 오늘 날짜에 따라 결과가 달라지는 응답(매출 예측)용: 날짜가 바뀌면 버전도 바뀜
+    public SaleDataVersion getDataVersionAsOfToday(String userId) {
+        return getDataVersion(userId).asOf(LocalDate.now(clock));
+    }
+    
+    // version 을 키에 넣어, 커밋 직후 무효화 이벤트가 처리되기 전에도 새 버전 요청이 이전 결과를 받지 않도록 함
+    public List<SaleResponse> getSalesByUserId(String userId, SaleDataVersion version) {
+        return get(userId, version, "all", List.of(), () -> saleService.getSalesByUserId(userId));
+    }
+    
+    public List<SaleResponse> getSalesByUserIdAndDateRange(String userId, SaleDataVersion version,
+                                                           LocalDate startDate, LocalDate endDate) {
+        return get(userId, version, "range", List.of(startDate, endDate),
+                () -> saleService.getSalesByUserIdAndDateRange(userId, startDate, endDate));
+    }
+    
+    public Optional<SaleResponse> getSaleByUserIdAndDate(String userId, SaleDataVersion version, LocalDate date) {
+        return get(userId, version, "date", List.of(date), () -> saleService.getSaleByUserIdAndDate(userId, date));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaleChanged(SaleChangedEvent event) {
+        evictUser(event.userId());
+        invalidationBus.publish(new CacheInvalidationMessage(instanceId, CACHE_NAME, event.userId()));
+    }
+    
+    // 세대만 올림. 이전 세대 키는 더 이상 조회되지 않고 크기/TTL 로 밀려나므로 캐시 전체를 훑지 않음
+    public void evictUser(String userId) {
+        generation(userId).updateAndGet(current -> new Generation(current.number() + 1, null, 0));
+        log.debug("매출 조회 캐시 무효화: userId={}", userId);
+    }
+    
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (CACHE_NAME.equals(message.cacheName()) && !instanceId.equals(message.sourceId())) {
+            evictUser(message.key());
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T> T get(String userId, SaleDataVersion version, String query, List<Object> args, Supplier<T> loader) {
+        CacheKey key = new CacheKey(userId, generation(userId).get().number(), version, query, args);
+        // 같은 키에 대한 동시 미스는 Caffeine 이 한 번만 로드하고 나머지는 결과를 기다림
+        return (T) cache.get(key, k -> loadTransaction.execute(status -> loader.get()));
+    }
+    
+    private AtomicReference<Generation> generation(String userId) {
+        return generations.get(userId, id -> new AtomicReference<>(new Generation(0, null, 0)));
+    }
+    
+    private record CacheKey(String userId, long generation, SaleDataVersion version, String query, List<Object> args) {
+    }
+    
+    // version 이 null 이면 아직 읽지 않았거나 무효화된 상태
+    private record Generation(long number, SaleDataVersion version, long loadedAtNanos) {
+    }
+}
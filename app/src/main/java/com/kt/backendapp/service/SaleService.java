@@ -1,19 +1,48 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.SaleAggregateResponse;
+import com.kt.backendapp.dto.SaleBatchItemResult;
+import com.kt.backendapp.dto.SaleBatchResponse;
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleGranularity;
+import com.kt.backendapp.dto.SalePageResponse;
 import com.kt.backendapp.dto.SaleRequest;
 import com.kt.backendapp.dto.SaleResponse;
 import com.kt.backendapp.entity.Sale;
+import com.kt.backendapp.event.SaleChangedEvent;
+import com.kt.backendapp.event.SaleDayChanges;
+import com.kt.backendapp.outbox.SaleOutboxEvent;
+import com.kt.backendapp.repository.SaleBatchRepository;
+import com.kt.backendapp.repository.SaleOutboxRepository;
 import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleUpsertResult;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,105 +51,283 @@ public class SaleService {
     
     private final SaleRepository saleRepository;
     
+    private final SaleBatchRepository saleBatchRepository;
+    
+    private final SaleStatisticsService saleStatisticsService;
+    
+    private final SaleOutboxRepository saleOutboxRepository;
+    
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final Validator validator;
+    
+    private final EntityManager entityManager;
+    
     @Transactional
     public SaleResponse createSale(SaleRequest request) {
-        log.info("매출 데이터 생성 시작: userId={}, date={}, amount={}", 
+        log.debug("매출 데이터 생성 시작: userId={}, date={}, amount={}", 
                 request.getUserId(), request.getSaleDate(), request.getAmount());
         
-        // 같은 날짜에 기존 매출이 있는지 확인
-        Optional<Sale> existingSale = saleRepository.findByUserIdAndSaleDate(
-                request.getUserId(), request.getSaleDate());
+        lockUsers(List.of(request.getUserId()));
+        SaleDataVersion before = saleStatisticsService.getDataVersion(request.getUserId());
+        // 같은 날짜에 기존 매출이 있으면 업데이트, 없으면 생성 (동시 요청에도 한 행만 남도록 DB 에서 원자적으로 처리)
+        SaleUpsertResult upserted = saleRepository.upsert(
+                request.getUserId(),
+                request.getSaleDate(),
+                request.getAmount(),
+                request.getStoreName(),
+                request.getBusinessType());
         
-        Sale sale;
-        if (existingSale.isPresent()) {
-            // 기존 매출이 있으면 업데이트
-            sale = existingSale.get();
-            sale.setAmount(request.getAmount());
-            sale.setStoreName(request.getStoreName());
-            sale.setBusinessType(request.getBusinessType());
-            log.info("기존 매출 데이터 업데이트: id={}", sale.getId());
+        if (Boolean.TRUE.equals(upserted.getInserted())) {
+            saleStatisticsService.recordAdded(upserted.getUserId(), upserted.getSaleDate(), upserted.getAmount());
+        } else if (upserted.getPreviousAmount() != null) {
+            saleStatisticsService.recordReplaced(upserted.getUserId(), upserted.getSaleDate(), upserted.getPreviousAmount(),
+                    upserted.getSaleDate(), upserted.getAmount());
         } else {
-            // 새로운 매출 생성
-            sale = Sale.builder()
+            // 다른 트랜잭션이 방금 커밋한 행을 덮어써서 이전 금액을 알 수 없는 경우
+            saleStatisticsService.recomputeForUsers(List.of(upserted.getUserId()));
+        }
+        appendOutbox(Boolean.TRUE.equals(upserted.getInserted())
+                ? SaleOutboxEvent.of(SaleOutboxEvent.Type.CREATED, upserted.getUserId(), upserted.getId(),
+                        upserted.getSaleDate(), upserted.getAmount())
+                : SaleOutboxEvent.updated(upserted.getUserId(), upserted.getId(), upserted.getSaleDate(), upserted.getAmount(),
+                        upserted.getPreviousAmount() == null ? null : upserted.getSaleDate(), upserted.getPreviousAmount()));
+        eventPublisher.publishEvent(changedEvent(upserted.getUserId(), before,
+                Map.of(upserted.getSaleDate(), upserted.getAmount())));
+        log.info("매출 데이터 저장 완료: id={}, inserted={}", upserted.getId(), upserted.getInserted());
+        
+        return SaleResponse.builder()
+                .id(upserted.getId())
+                .userId(upserted.getUserId())
+                .saleDate(upserted.getSaleDate())
+                .amount(upserted.getAmount())
+                .storeName(upserted.getStoreName())
+                .businessType(upserted.getBusinessType())
+                .createdAt(upserted.getCreatedAt())
+                .updatedAt(upserted.getUpdatedAt())
+                .build();
+    }
+    
+    @Transactional
+    public SaleBatchResponse createSalesBatch(List<SaleRequest> requests) {
+        return SaleBatchResponse.of(upsertSales(requests, 0));
+    }
+    
+    // indexOffset 는 스트리밍(NDJSON) 업로드에서 청크별로 호출할 때 원본 행 번호를 유지하기 위한 값
+    @Transactional
+    public List<SaleBatchItemResult> upsertSales(List<SaleRequest> requests, int indexOffset) {
+        log.debug("매출 데이터 일괄 저장 시작: count={}, offset={}", requests.size(), indexOffset);
+        
+        List<SaleBatchItemResult> results = new ArrayList<>(requests.size());
+        // 같은 (userId, saleDate) 가 여러 번 오면 마지막 행만 저장
+        Map<SaleKey, Integer> lastIndexByKey = new LinkedHashMap<>();
+        int invalidCount = 0;
+        
+        for (int i = 0; i < requests.size(); i++) {
+            SaleRequest request = requests.get(i);
+            SaleBatchItemResult result = SaleBatchItemResult.builder()
+                    .index(indexOffset + i)
+                    .build();
+            results.add(result);
+            
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                result.setStatus(SaleBatchItemResult.Status.INVALID);
+                result.setErrors(errors);
+                invalidCount++;
+                continue;
+            }
+            
+            result.setUserId(request.getUserId());
+            result.setSaleDate(request.getSaleDate());
+            Integer previous = lastIndexByKey.put(new SaleKey(request.getUserId(), request.getSaleDate()), i);
+            if (previous != null) {
+                results.get(previous).setStatus(SaleBatchItemResult.Status.SUPERSEDED);
+            }
+        }
+        
+        List<Sale> sales = new ArrayList<>(lastIndexByKey.size());
+        for (int i : lastIndexByKey.values()) {
+            SaleRequest request = requests.get(i);
+            sales.add(Sale.builder()
                     .userId(request.getUserId())
                     .saleDate(request.getSaleDate())
                     .amount(request.getAmount())
                     .storeName(request.getStoreName())
                     .businessType(request.getBusinessType())
-                    .build();
-            log.info("새 매출 데이터 생성");
+                    .build());
+        }
+        
+        Set<String> affectedUserIds = lastIndexByKey.keySet().stream()
+                .map(SaleKey::userId)
+                .collect(Collectors.toSet());
+        lockUsers(affectedUserIds);
+        Map<SaleKey, SaleBatchRepository.UpsertedSale> upsertedByKey = new LinkedHashMap<>();
+        for (SaleBatchRepository.UpsertedSale upserted : saleBatchRepository.upsertAll(sales)) {
+            upsertedByKey.put(new SaleKey(upserted.userId(), upserted.saleDate()), upserted);
+        }
+        // 여러 행의 최소/최대가 함께 바뀔 수 있으므로 통계는 영향받은 사용자만 재집계
+        saleStatisticsService.recomputeForUsers(affectedUserIds);
+        List<SaleOutboxEvent> outboxEvents = new ArrayList<>(sales.size());
+        for (Sale sale : sales) {
+            SaleBatchRepository.UpsertedSale upserted = upsertedByKey.get(new SaleKey(sale.getUserId(), sale.getSaleDate()));
+            outboxEvents.add(upserted.inserted()
+                    ? SaleOutboxEvent.of(SaleOutboxEvent.Type.CREATED, sale.getUserId(), upserted.id(),
+                            sale.getSaleDate(), sale.getAmount())
+                    : SaleOutboxEvent.updated(sale.getUserId(), upserted.id(), sale.getSaleDate(), sale.getAmount(),
+                            sale.getSaleDate(), upserted.previousAmount()));
         }
+        saleOutboxRepository.appendAll(outboxEvents);
+        affectedUserIds.forEach(affectedUserId -> eventPublisher.publishEvent(new SaleChangedEvent(affectedUserId)));
         
-        Sale savedSale = saleRepository.save(sale);
-        log.info("매출 데이터 저장 완료: id={}", savedSale.getId());
+        for (SaleBatchItemResult result : results) {
+            if (result.getStatus() == SaleBatchItemResult.Status.INVALID) {
+                continue;
+            }
+            SaleBatchRepository.UpsertedSale upserted = upsertedByKey.get(new SaleKey(result.getUserId(), result.getSaleDate()));
+            result.setId(upserted.id());
+            if (result.getStatus() == null) {
+                result.setStatus(upserted.inserted()
+                        ? SaleBatchItemResult.Status.INSERTED
+                        : SaleBatchItemResult.Status.UPDATED);
+            }
+        }
         
-        return convertToResponse(savedSale);
+        log.info("매출 데이터 일괄 저장 완료: saved={}, invalid={}", sales.size(), invalidCount);
+        return results;
     }
     
     @Transactional(readOnly = true)
     public List<SaleResponse> getSalesByUserId(String userId) {
-        log.info("사용자 매출 데이터 조회: userId={}", userId);
+        log.debug("사용자 매출 데이터 조회: userId={}", userId);
         
         List<Sale> sales = saleRepository.findByUserIdOrderBySaleDateDesc(userId);
-        log.info("매출 데이터 조회 완료: count={}", sales.size());
+        log.debug("매출 데이터 조회 완료: count={}", sales.size());
         
         return sales.stream()
-                .map(this::convertToResponse)
+                .map(SaleService::convertToResponse)
                 .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
-    public List<SaleResponse> getSalesByUserIdAndDateRange(String userId, LocalDate startDate, LocalDate endDate) {
-        log.info("기간별 매출 데이터 조회: userId={}, startDate={}, endDate={}", 
-                userId, startDate, endDate);
+    public SalePageResponse getSalesPageByUserId(String userId, String cursor, int size) {
+        log.debug("사용자 매출 페이지 조회: userId={}, cursor={}, size={}", userId, cursor, size);
         
-        List<Sale> sales = saleRepository.findByUserIdAndSaleDateBetweenOrderBySaleDate(
-                userId, startDate, endDate);
-        log.info("기간별 매출 데이터 조회 완료: count={}", sales.size());
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<Sale> sales;
+        if (cursor == null || cursor.isBlank()) {
+            sales = saleRepository.findPageByUserId(userId, limit);
+        } else {
+            PageCursor pageCursor = decodeCursor(cursor);
+            sales = saleRepository.findPageByUserIdAfter(userId, pageCursor.saleDate(), pageCursor.id(), limit);
+        }
         
-        return sales.stream()
-                .map(this::convertToResponse)
+        boolean hasNext = sales.size() > size;
+        List<SaleResponse> content = sales.stream()
+                .limit(size)
+                .map(SaleService::convertToResponse)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+        
+        return SalePageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
     
+    // 결과를 모으지 않고 한 건씩 consumer 로 넘김. 영속성 컨텍스트에 쌓이지 않도록 바로 detach
     @Transactional(readOnly = true)
-    public Optional<SaleResponse> getSaleByUserIdAndDate(String userId, LocalDate date) {
-        log.info("특정 날짜 매출 데이터 조회: userId={}, date={}", userId, date);
+    public long streamSalesByUserId(String userId, Consumer<SaleResponse> consumer) {
+        log.debug("사용자 매출 스트리밍 조회: userId={}", userId);
         
-        return saleRepository.findByUserIdAndSaleDate(userId, date)
-                .map(this::convertToResponse);
+        long count = 0;
+        try (Stream<Sale> sales = saleRepository.streamByUserId(userId)) {
+            for (Sale sale : (Iterable<Sale>) sales::iterator) {
+                consumer.accept(convertToResponse(sale));
+                entityManager.detach(sale);
+                count++;
+            }
+        }
+        log.debug("사용자 매출 스트리밍 조회 완료: count={}", count);
+        return count;
+    }
+    
+    // 기간 내 매출을 날짜 오름차순으로 한 건씩 넘김 (CSV/XLSX 내보내기)
+    @Transactional(readOnly = true)
+    public long streamSalesByUserIdAndDateRange(String userId, LocalDate startDate, LocalDate endDate,
+                                                Consumer<SaleResponse> consumer) {
+        log.debug("기간별 매출 스트리밍 조회: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
+        
+        long count = 0;
+        try (Stream<Sale> sales = saleRepository.streamByUserIdAndSaleDateBetween(userId, startDate, endDate)) {
+            for (Sale sale : (Iterable<Sale>) sales::iterator) {
+                consumer.accept(convertToResponse(sale));
+                entityManager.detach(sale);
+                count++;
+            }
+        }
+        log.debug("기간별 매출 스트리밍 조회 완료: count={}", count);
+        return count;
     }
     
     @Transactional(readOnly = true)
-    public BigDecimal getTotalSales(String userId) {
-        log.info("총 매출 조회: userId={}", userId);
+    public List<SaleResponse> getSalesByUserIdAndDateRange(String userId, LocalDate startDate, LocalDate endDate) {
+        log.debug("기간별 매출 데이터 조회: userId={}, startDate={}, endDate={}", 
+                userId, startDate, endDate);
         
-        return saleRepository.findTotalSalesByUserId(userId)
-                .orElse(BigDecimal.ZERO);
+        List<Sale> sales = saleRepository.findByUserIdAndSaleDateBetweenOrderBySaleDate(
+                userId, startDate, endDate);
+        log.debug("기간별 매출 데이터 조회 완료: count={}", sales.size());
+        
+        return sales.stream()
+                .map(SaleService::convertToResponse)
+                .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
-    public BigDecimal getAverageSales(String userId) {
-        log.info("평균 매출 조회: userId={}", userId);
+    public Optional<SaleResponse> getSaleByUserIdAndDate(String userId, LocalDate date) {
+        log.debug("특정 날짜 매출 데이터 조회: userId={}, date={}", userId, date);
         
-        return saleRepository.findAverageSalesByUserId(userId)
-                .orElse(BigDecimal.ZERO);
+        return saleRepository.findByUserIdAndSaleDate(userId, date)
+                .map(SaleService::convertToResponse);
     }
     
     @Transactional(readOnly = true)
-    public Long getSalesCount(String userId) {
-        log.info("매출 기록 수 조회: userId={}", userId);
+    public List<SaleAggregateResponse> getSalesAggregate(String userId, SaleGranularity granularity,
+                                                         LocalDate from, LocalDate to) {
+        log.debug("기간별 매출 집계 조회: userId={}, granularity={}, from={}, to={}", userId, granularity, from, to);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
         
-        return saleRepository.countByUserId(userId);
+        return saleRepository.aggregateByUserId(userId, granularity.dateTruncUnit(), from, to.plusDays(1)).stream()
+                .map(aggregate -> SaleAggregateResponse.builder()
+                        .bucket(aggregate.getBucket())
+                        .totalSales(aggregate.getTotalAmount())
+                        .averageSales(aggregate.getAverageAmount())
+                        .salesCount(aggregate.getSaleCount())
+                        .minSales(aggregate.getMinAmount())
+                        .maxSales(aggregate.getMaxAmount())
+                        .build())
+                .collect(Collectors.toList());
     }
     
     @Transactional
     public void deleteSale(Long saleId, String userId) {
-        log.info("매출 데이터 삭제: saleId={}, userId={}", saleId, userId);
+        log.debug("매출 데이터 삭제: saleId={}, userId={}", saleId, userId);
         
+        lockUsers(List.of(userId));
+        SaleDataVersion before = saleStatisticsService.getDataVersion(userId);
         Optional<Sale> sale = saleRepository.findById(saleId);
         if (sale.isPresent() && sale.get().getUserId().equals(userId)) {
             saleRepository.deleteById(saleId);
+            saleStatisticsService.recordRemoved(userId, sale.get().getSaleDate(), sale.get().getAmount());
+            appendOutbox(SaleOutboxEvent.of(SaleOutboxEvent.Type.DELETED, userId, saleId,
+                    sale.get().getSaleDate(), sale.get().getAmount()));
+            eventPublisher.publishEvent(changedEvent(userId, before, Collections.singletonMap(sale.get().getSaleDate(), null)));
             log.info("매출 데이터 삭제 완료: saleId={}", saleId);
         } else {
             log.warn("매출 데이터 삭제 실패 - 권한 없음: saleId={}, userId={}", saleId, userId);
@@ -130,11 +337,25 @@ public class SaleService {
 
     @Transactional
     public SaleResponse updateSale(Long saleId, String userId, SaleRequest request) {
-        log.info("매출 데이터 수정: saleId={}, userId={}, request={}", saleId, userId, request);
+        log.debug("매출 데이터 수정: saleId={}, userId={}, date={}, amount={}", saleId, userId, request.getSaleDate(), request.getAmount());
         
+        lockUsers(List.of(userId));
+        SaleDataVersion before = saleStatisticsService.getDataVersion(userId);
         Optional<Sale> saleOptional = saleRepository.findById(saleId);
         if (saleOptional.isPresent() && saleOptional.get().getUserId().equals(userId)) {
             Sale sale = saleOptional.get();
+            LocalDate previousSaleDate = sale.getSaleDate();
+            BigDecimal previousAmount = sale.getAmount();
+            
+            // (user_id, sale_date) 는 유일하므로 다른 행이 있는 날짜로 옮기면 커밋 시 제약 위반 대신 여기서 거절 (사용자 잠금 안이라 그 사이 생기지 않음)
+            if (!request.getSaleDate().equals(previousSaleDate)) {
+                Optional<Sale> existing = saleRepository.findByUserIdAndSaleDate(userId, request.getSaleDate());
+                if (existing.isPresent() && !existing.get().getId().equals(saleId)) {
+                    log.warn("매출 데이터 수정 실패 - 날짜 중복: saleId={}, existingId={}, date={}",
+                            saleId, existing.get().getId(), request.getSaleDate());
+                    throw new IllegalStateException("해당 날짜(" + request.getSaleDate() + ")의 매출이 이미 있습니다.");
+                }
+            }
             
             // 매출 데이터 업데이트
             sale.setAmount(request.getAmount());
@@ -143,6 +364,14 @@ public class SaleService {
             sale.setSaleDate(request.getSaleDate());
             
             Sale savedSale = saleRepository.save(sale);
+            saleStatisticsService.recordReplaced(userId, previousSaleDate, previousAmount,
+                    savedSale.getSaleDate(), savedSale.getAmount());
+            appendOutbox(SaleOutboxEvent.updated(userId, saleId, savedSale.getSaleDate(), savedSale.getAmount(),
+                    previousSaleDate, previousAmount));
+            Map<LocalDate, BigDecimal> changedAmounts = new HashMap<>();
+            changedAmounts.put(previousSaleDate, null);
+            changedAmounts.put(savedSale.getSaleDate(), savedSale.getAmount());
+            eventPublisher.publishEvent(changedEvent(userId, before, changedAmounts));
             log.info("매출 데이터 수정 완료: saleId={}", saleId);
             
             return convertToResponse(savedSale);
@@ -152,7 +381,58 @@ public class SaleService {
         }
     }
     
-    private SaleResponse convertToResponse(Sale sale) {
+    // 같은 사용자의 쓰기 트랜잭션을 처음부터 커밋까지 한 줄로 세움
+    // - 통계 증분/재집계가 다른 트랜잭션의 커밋 전 변경과 엇갈려 sale_statistics 가 어긋나지 않음
+    // - outbox id 가 커밋 순서대로 발급됨
+    private void lockUsers(Collection<String> userIds) {
+        saleOutboxRepository.lockUsers(userIds);
+    }
+    
+    // 변경 전 버전(before)과 통계 반영 후 버전을 모두 사용자 잠금 안에서 읽으므로, 그 사이의 변경은 amounts 뿐
+    // (열 지향 분석 저장소가 전체 이력을 다시 읽지 않고 바뀐 날짜만 반영)
+    private SaleChangedEvent changedEvent(String userId, SaleDataVersion before, Map<LocalDate, BigDecimal> amounts) {
+        return new SaleChangedEvent(userId, new SaleDayChanges(before, saleStatisticsService.getDataVersion(userId), amounts));
+    }
+    
+    // 매출 변경과 같은 트랜잭션에서 기록하므로 롤백되면 이벤트도 남지 않음 (사용자 잠금은 트랜잭션 시작 시 lockUsers 로 잡음)
+    private void appendOutbox(SaleOutboxEvent event) {
+        saleOutboxRepository.append(event);
+    }
+    
+    private List<String> validate(SaleRequest request) {
+        if (request == null) {
+            return List.of("요청 데이터가 비어 있습니다");
+        }
+        Set<ConstraintViolation<SaleRequest>> violations = validator.validate(request);
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<SaleRequest> violation : violations) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+    
+    private String encodeCursor(SaleResponse last) {
+        String raw = last.getSaleDate() + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new PageCursor(LocalDate.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+    }
+    
+    private record SaleKey(String userId, LocalDate saleDate) {
+    }
+    
+    private record PageCursor(LocalDate saleDate, Long id) {
+    }
+    
+    static SaleResponse convertToResponse(Sale sale) {
         return SaleResponse.builder()
                 .id(sale.getId())
                 .userId(sale.getUserId())
@@ -0,0 +1,140 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleStatisticsResponse;
+import com.kt.backendapp.entity.SaleStatistics;
+import com.kt.backendapp.repository.SaleOutboxRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import com.kt.backendapp.repository.SaleStatisticsSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class SaleStatisticsService {
+    
+    // 야간 재집계에서 한 트랜잭션으로 잠그고 다시 집계하는 사용자 수
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+    
+    private final SaleStatisticsRepository saleStatisticsRepository;
+    
+    private final SaleOutboxRepository saleOutboxRepository;
+    
+    private final TransactionTemplate reconcileTransaction;
+    
+    public SaleStatisticsService(SaleStatisticsRepository saleStatisticsRepository,
+                                 SaleOutboxRepository saleOutboxRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.saleStatisticsRepository = saleStatisticsRepository;
+        this.saleOutboxRepository = saleOutboxRepository;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+    }
+    
+    @Transactional(readOnly = true)
+    public SaleDataVersion getDataVersion(String userId) {
+        return saleStatisticsRepository.findVersion(userId)
+                .map(version -> new SaleDataVersion(version.getSaleCount(), version.getUpdatedAt(), null))
+                .orElse(SaleDataVersion.EMPTY);
+    }
+    
+    // 통계 조회는 DB 왕복 한 번(findSnapshot, sale_statistics PK 조회)으로 끝나며, 쿼리 2초/트랜잭션 3초 안에 끝나지 않으면 실패 처리
+    @Transactional(readOnly = true, timeout = 3)
+    public SaleStatisticsResponse getStatistics(String userId) {
+        log.debug("매출 통계 조회: userId={}", userId);
+        
+        SaleStatisticsSnapshot snapshot = saleStatisticsRepository.findSnapshot(userId);
+        
+        long salesCount = snapshot.getSaleCount() == null ? 0L : snapshot.getSaleCount();
+        BigDecimal totalSales = snapshot.getTotalAmount() == null ? BigDecimal.ZERO : snapshot.getTotalAmount();
+        BigDecimal averageSales = salesCount == 0
+                ? BigDecimal.ZERO
+                : totalSales.divide(BigDecimal.valueOf(salesCount), 2, RoundingMode.HALF_UP);
+        
+        return SaleStatisticsResponse.builder()
+                .totalSales(totalSales)
+                .averageSales(averageSales)
+                .salesCount(salesCount)
+                .minSales(snapshot.getMinAmount())
+                .maxSales(snapshot.getMaxAmount())
+                .lastSaleDate(snapshot.getLastSaleDate())
+                .build();
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(String userId, LocalDate saleDate, BigDecimal amount) {
+        saleStatisticsRepository.applyAdded(userId, saleDate, amount);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReplaced(String userId, LocalDate oldSaleDate, BigDecimal oldAmount,
+                               LocalDate newSaleDate, BigDecimal newAmount) {
+        Optional<SaleStatistics> current = saleStatisticsRepository.findById(userId);
+        if (current.isEmpty()
+                || isBoundary(current.get(), oldSaleDate, oldAmount)
+                || saleStatisticsRepository.applyReplaced(userId, oldAmount, newSaleDate, newAmount) == 0) {
+            recomputeForUsers(List.of(userId));
+        }
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(String userId, LocalDate saleDate, BigDecimal amount) {
+        Optional<SaleStatistics> current = saleStatisticsRepository.findById(userId);
+        if (current.isEmpty()
+                || current.get().getSaleCount() <= 1
+                || isBoundary(current.get(), saleDate, amount)
+                || saleStatisticsRepository.applyRemoved(userId, amount) == 0) {
+            recomputeForUsers(List.of(userId));
+        }
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recomputeForUsers(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        saleStatisticsRepository.recomputeForUsers(userIds);
+        saleStatisticsRepository.deleteEmptyForUsers(userIds);
+    }
+    
+    // 증분 갱신 중 동시성 등으로 생긴 오차를 주기적으로 원본 테이블 기준으로 바로잡음
+    // 사용자 묶음마다 쓰기 경로와 같은 사용자 잠금(lockUsers)을 잡은 뒤 집계하므로,
+    // 재집계 도중 커밋된 매출 변경을 옛 스냅샷 값으로 덮어쓰거나 첫 매출이 들어오는 사용자의 통계 행을 지우지 않음
+    @Scheduled(cron = "${app.statistics.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        log.info("매출 통계 재집계 시작");
+        List<String> userIds = saleStatisticsRepository.findReconcileUserIds();
+        int corrected = 0;
+        int removed = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<String> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            int[] counts = reconcileTransaction.execute(status -> {
+                saleOutboxRepository.lockUsers(chunk);
+                return new int[]{
+                        saleStatisticsRepository.reconcileForUsers(chunk),
+                        saleStatisticsRepository.deleteEmptyForUsers(chunk)};
+            });
+            corrected += counts[0];
+            removed += counts[1];
+        }
+        log.info("매출 통계 재집계 완료: users={}, corrected={}, removed={}", userIds.size(), corrected, removed);
+    }
+    
+    // 지워지는 값이 최소/최대/최근 날짜였다면 증분으로는 새 경계를 알 수 없음
+    private boolean isBoundary(SaleStatistics statistics, LocalDate saleDate, BigDecimal amount) {
+        return amount.compareTo(statistics.getMinAmount()) == 0
+                || amount.compareTo(statistics.getMaxAmount()) == 0
+                || saleDate.equals(statistics.getLastSaleDate());
+    }
+}
@@ -0,0 +1,370 @@
+package com.kt.backendapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.kt.backendapp.dto.SaleBatchItemResult;
+import com.kt.backendapp.dto.SaleImportProgress;
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.dto.SaleResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 매출 CSV/XLSX 내보내기와 CSV/NDJSON 가져오기. 둘 다 한 번에 한 행(가져오기는 batch-size 행)만 메모리에 둠
+// 열: user_id, sale_date, amount, store_name, business_type (내보낸 CSV 를 그대로 다시 가져올 수 있음)
+@Service
+@Slf4j
+public class SaleTransferService {
+
+    public static final LocalDate EXPORT_MIN_DATE = LocalDate.of(1900, 1, 1);
+
+    public static final LocalDate EXPORT_MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String[] COLUMNS = {"user_id", "sale_date", "amount", "store_name", "business_type"};
+
+    // Excel 에서 한글이 깨지지 않도록 CSV 앞에 붙이는 UTF-8 BOM
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    // 결과에 담는 실패 행 최대 개수 (나머지는 failedCount 로만 집계)
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final SaleService saleService;
+
+    private final CsvMapper csvMapper;
+
+    private final CsvSchema exportSchema;
+
+    private final int importBatchSize;
+
+    private final int progressInterval;
+
+    private final int xlsxWindowRows;
+
+    // 가져오기 응답 전체(업로드 + 저장)에 허용하는 시간. spring.mvc.async.request-timeout 대신 가져오기 요청에만 적용
+    private final Duration importTimeout;
+
+    public SaleTransferService(SaleService saleService,
+                               @Value("${app.transfer.import.batch-size:1000}") int importBatchSize,
+                               @Value("${app.transfer.import.progress-interval:10000}") int progressInterval,
+                               @Value("${app.transfer.export.xlsx-window-rows:100}") int xlsxWindowRows,
+                               @Value("${app.transfer.import.timeout:30m}") Duration importTimeout) {
+        this.saleService = saleService;
+        this.csvMapper = CsvMapper.builder()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+                .build();
+        CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+        for (String column : COLUMNS) {
+            schema.addColumn(column);
+        }
+        this.exportSchema = schema.build();
+        this.importBatchSize = importBatchSize;
+        this.progressInterval = progressInterval;
+        this.xlsxWindowRows = xlsxWindowRows;
+        this.importTimeout = importTimeout;
+    }
+
+    public Duration getImportTimeout() {
+        return importTimeout;
+    }
+
+    public long exportCsv(String userId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        return exportCsv(List.of(userId), from, to, out);
+    }
+
+    // 여러 매장을 헤더 하나인 CSV 로 (매장 순서대로, 매장마다 별도 조회)
+    public long exportCsv(List<String> userIds, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        out.write(UTF8_BOM);
+        long count = 0;
+        try (SequenceWriter writer = csvMapper.writer(exportSchema).writeValues(out)) {
+            for (String userId : userIds) {
+                count += saleService.streamSalesByUserIdAndDateRange(userId, from, to, sale -> {
+                    try {
+                        writer.write(new Object[]{
+                                text(sale.getUserId()),
+                                sale.getSaleDate().toString(),
+                                sale.getAmount().toPlainString(),
+                                text(sale.getStoreName()),
+                                text(sale.getBusinessType())});
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+        return count;
+    }
+
+    // SXSSF 는 window-rows 행만 메모리에 두고 나머지는 임시 파일로 내림. zip 은 마지막에 한 번에 쓰므로 응답은 조회가 끝난 뒤 시작됨
+    public long exportXlsx(String userId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(xlsxWindowRows);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+            int lastRowIndex = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+
+            Sheet[] sheet = {newSheet(workbook)};
+            int[] rowIndex = {1};
+            long count = saleService.streamSalesByUserIdAndDateRange(userId, from, to, sale -> {
+                // 시트당 최대 행 수를 넘으면 다음 시트로
+                if (rowIndex[0] > lastRowIndex) {
+                    sheet[0] = newSheet(workbook);
+                    rowIndex[0] = 1;
+                }
+                writeRow(sheet[0].createRow(rowIndex[0]++), sale, dateStyle, amountStyle);
+            });
+            workbook.write(out);
+            return count;
+        } finally {
+            // 임시 파일까지 정리됨
+            workbook.close();
+        }
+    }
+
+    // 본문을 한 행씩 읽어 batch-size 행마다 별도 트랜잭션으로 저장하고, progress-interval 행마다 진행 상황을 넘김
+    // 형식이 잘못된 행은 건너뛰고 실패로 집계. CSV 구조 자체가 깨지면(닫히지 않은 따옴표 등) 예외
+    public SaleImportProgress importCsv(InputStream in, Consumer<SaleImportProgress> progressListener) throws IOException {
+        ImportTally tally = new ImportTally();
+        List<SaleRequest> batch = new ArrayList<>(importBatchSize);
+        long[] batchRows = new long[importBatchSize];
+        long rowNumber = 0;
+        long lastReported = 0;
+        try (MappingIterator<Map<String, String>> rows = csvMapper.readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(in)) {
+            while (rows.hasNextValue()) {
+                Map<String, String> row = rows.nextValue();
+                if (rowNumber == 0) {
+                    requireColumns((CsvSchema) rows.getParserSchema());
+                }
+                rowNumber++;
+                List<String> errors = new ArrayList<>(0);
+                SaleRequest request = toRequest(row, errors);
+                if (!errors.isEmpty()) {
+                    tally.fail(SaleBatchItemResult.builder()
+                            .index((int) Math.min(rowNumber, Integer.MAX_VALUE))
+                            .status(SaleBatchItemResult.Status.INVALID)
+                            .userId(request.getUserId())
+                            .saleDate(request.getSaleDate())
+                            .errors(errors)
+                            .build());
+                    tally.processed++;
+                } else {
+                    batchRows[batch.size()] = rowNumber;
+                    batch.add(request);
+                    if (batch.size() == importBatchSize) {
+                        save(batch, batchRows, tally);
+                    }
+                }
+                if (tally.processed - lastReported >= progressInterval) {
+                    lastReported = tally.processed;
+                    progressListener.accept(tally.toProgress(false));
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            save(batch, batchRows, tally);
+        }
+        SaleImportProgress result = tally.toProgress(true);
+        progressListener.accept(result);
+        log.info("매출 CSV 가져오기 완료: processed={}, inserted={}, updated={}, failed={}",
+                result.getProcessedCount(), result.getInsertedCount(), result.getUpdatedCount(), result.getFailedCount());
+        return result;
+    }
+
+    // NDJSON 업로드처럼 이미 SaleRequest 로 읽히는 행을 batch-size 행씩 저장. 결과는 CSV 가져오기와 같은 집계 + 앞쪽 실패 행
+    // (index 는 1부터 시작하는 행 번호). 행마다 결과를 모으지 않으므로 업로드 크기와 관계없이 메모리 사용량이 일정함
+    public SaleImportProgress importRequests(Iterator<SaleRequest> requests, Consumer<SaleImportProgress> progressListener) {
+        ImportTally tally = new ImportTally();
+        List<SaleRequest> batch = new ArrayList<>(importBatchSize);
+        long[] batchRows = new long[importBatchSize];
+        long rowNumber = 0;
+        long lastReported = 0;
+        while (requests.hasNext()) {
+            batchRows[batch.size()] = ++rowNumber;
+            batch.add(requests.next());
+            if (batch.size() == importBatchSize) {
+                save(batch, batchRows, tally);
+                if (tally.processed - lastReported >= progressInterval) {
+                    lastReported = tally.processed;
+                    progressListener.accept(tally.toProgress(false));
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            save(batch, batchRows, tally);
+        }
+        SaleImportProgress result = tally.toProgress(true);
+        progressListener.accept(result);
+        log.info("매출 일괄 저장 완료: processed={}, inserted={}, updated={}, failed={}",
+                result.getProcessedCount(), result.getInsertedCount(), result.getUpdatedCount(), result.getFailedCount());
+        return result;
+    }
+
+    private void save(List<SaleRequest> batch, long[] batchRows, ImportTally tally) {
+        for (SaleBatchItemResult result : saleService.upsertSales(batch, 0)) {
+            switch (result.getStatus()) {
+                case INSERTED -> tally.inserted++;
+                case UPDATED -> tally.updated++;
+                case SUPERSEDED -> tally.superseded++;
+                case INVALID -> {
+                    SaleRequest request = batch.get(result.getIndex());
+                    result.setUserId(request.getUserId());
+                    result.setSaleDate(request.getSaleDate());
+                    result.setIndex((int) Math.min(batchRows[result.getIndex()], Integer.MAX_VALUE));
+                    tally.fail(result);
+                }
+            }
+        }
+        tally.processed += batch.size();
+        batch.clear();
+    }
+
+    private static void requireColumns(CsvSchema header) {
+        List<String> missing = new ArrayList<>();
+        for (String column : new String[]{"user_id", "sale_date", "amount"}) {
+            if (header.column(column) == null) {
+                missing.add(column);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 열이 없습니다: " + String.join(", ", missing));
+        }
+    }
+
+    private static SaleRequest toRequest(Map<String, String> row, List<String> errors) {
+        SaleRequest request = new SaleRequest();
+        request.setUserId(untext(blankToNull(row.get("user_id"))));
+        request.setStoreName(untext(blankToNull(row.get("store_name"))));
+        request.setBusinessType(untext(blankToNull(row.get("business_type"))));
+        String saleDate = blankToNull(row.get("sale_date"));
+        if (saleDate != null) {
+            try {
+                request.setSaleDate(LocalDate.parse(saleDate));
+            } catch (DateTimeParseException e) {
+                errors.add("saleDate: 날짜 형식이 올바르지 않습니다 (yyyy-MM-dd): " + saleDate);
+            }
+        }
+        String amount = blankToNull(row.get("amount"));
+        if (amount != null) {
+            try {
+                request.setAmount(new BigDecimal(amount.replace(",", "")));
+            } catch (NumberFormatException e) {
+                errors.add("amount: 숫자 형식이 올바르지 않습니다: " + amount);
+            }
+        }
+        return request;
+    }
+
+    private static Sheet newSheet(SXSSFWorkbook workbook) {
+        int number = workbook.getNumberOfSheets() + 1;
+        Sheet sheet = workbook.createSheet(number == 1 ? "매출" : "매출 (" + number + ")");
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            header.createCell(i).setCellValue(COLUMNS[i]);
+        }
+        return sheet;
+    }
+
+    private static void writeRow(Row row, SaleResponse sale, CellStyle dateStyle, CellStyle amountStyle) {
+        row.createCell(0).setCellValue(sale.getUserId());
+        Cell date = row.createCell(1);
+        date.setCellValue(sale.getSaleDate());
+        date.setCellStyle(dateStyle);
+        Cell amount = row.createCell(2);
+        amount.setCellValue(sale.getAmount().doubleValue());
+        amount.setCellStyle(amountStyle);
+        if (sale.getStoreName() != null) {
+            row.createCell(3).setCellValue(sale.getStoreName());
+        }
+        if (sale.getBusinessType() != null) {
+            row.createCell(4).setCellValue(sale.getBusinessType());
+        }
+    }
+
+    // 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @ 로 시작하는 값(사용자 ID 포함) 앞에 ' 를 붙임 (가져올 때 다시 뗌)
+    private static String text(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return isFormulaPrefix(value.charAt(0)) ? "'" + value : value;
+    }
+
+    private static String untext(String value) {
+        if (value != null && value.length() > 1 && value.charAt(0) == '\'' && isFormulaPrefix(value.charAt(1))) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static final class ImportTally {
+
+        private long processed;
+
+        private long inserted;
+
+        private long updated;
+
+        private long superseded;
+
+        private long failed;
+
+        private final List<SaleBatchItemResult> errors = new ArrayList<>();
+
+        void fail(SaleBatchItemResult result) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(result);
+            }
+        }
+
+        SaleImportProgress toProgress(boolean done) {
+            return SaleImportProgress.builder()
+                    .done(done)
+                    .processedCount(processed)
+                    .insertedCount(inserted)
+                    .updatedCount(updated)
+                    .supersededCount(superseded)
+                    .failedCount(failed)
+                    .errors(done ? List.copyOf(errors) : null)
+                    .build();
+        }
+    }
+}
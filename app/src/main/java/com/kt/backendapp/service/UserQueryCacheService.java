@@ -0,0 +1,83 @@
+package com.kt.backendapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kt.backendapp.cache.CacheInvalidationBus;
+import com.kt.backendapp.cache.CacheInvalidationMessage;
+import com.kt.backendapp.dto.UserResponse;
+import com.kt.backendapp.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+// 이메일별 사용자 조회 결과 캐시. 없는 사용자도 짧게 캐시하고, 수정 커밋 시 로컬 + 다른 인스턴스 캐시를 무효화
+@Service
+@Slf4j
+public class UserQueryCacheService {
+
+    static final String CACHE_NAME = "users";
+
+    private final UserService userService;
+
+    private final CacheInvalidationBus invalidationBus;
+
+    // 캐시에 남는 값(없는 사용자 포함)이므로 replica 지연 없이 primary 에서 읽음
+    private final TransactionTemplate loadTransaction;
+
+    private final Cache<String, Optional<UserResponse>> cache;
+
+    // 자기가 보낸 무효화 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public UserQueryCacheService(UserService userService,
+                                 CacheInvalidationBus invalidationBus,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.users.maximum-size:50000}") long maximumSize,
+                                 @Value("${app.cache.users.ttl:10m}") Duration ttl,
+                                 @Value("${app.cache.users.negative-ttl:30s}") Duration negativeTtl) {
+        this.userService = userService;
+        this.invalidationBus = invalidationBus;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String email, Optional<UserResponse> user) ->
+                        user.isPresent() ? ttl : negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    public Optional<UserResponse> getUserByEmail(String email) {
+        // 같은 이메일에 대한 동시 미스는 한 번만 조회
+        return cache.get(email, key -> loadTransaction.execute(status -> userService.getUserByEmail(key)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.email());
+        invalidationBus.publish(new CacheInvalidationMessage(instanceId, CACHE_NAME, event.email()));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+        log.debug("사용자 조회 캐시 무효화: email={}", email);
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (CACHE_NAME.equals(message.cacheName()) && !instanceId.equals(message.sourceId())) {
+            evict(message.key());
+        }
+    }
+}
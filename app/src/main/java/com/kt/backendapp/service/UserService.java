@@ -3,9 +3,11 @@ package com.kt.backendapp.service;
 import com.kt.backendapp.dto.UserResponse;
 import com.kt.backendapp.dto.UserUpdateRequest;
 import com.kt.backendapp.entity.User;
+import com.kt.backendapp.event.UserChangedEvent;
 import com.kt.backendapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,15 +21,17 @@ public class UserService {
     
     private final UserRepository userRepository;
     
+    private final ApplicationEventPublisher eventPublisher;
+    
     @Transactional(readOnly = true)
     public Optional<UserResponse> getUserByEmail(String email) {
-        log.info("사용자 정보 조회: email={}", email);
+        log.debug("사용자 정보 조회: email={}", email);
         
         Optional<User> user = userRepository.findByEmail(email);
         
         if (user.isPresent()) {
             UserResponse userResponse = convertToResponse(user.get());
-            log.info("사용자 정보 조회 성공: email={}, name={}", email, userResponse.getName());
+            log.debug("사용자 정보 조회 성공: email={}, name={}", email, userResponse.getName());
             return Optional.of(userResponse);
         } else {
             log.warn("사용자를 찾을 수 없음: email={}", email);
@@ -37,7 +41,7 @@ public class UserService {
     
     @Transactional
     public Optional<UserResponse> updateUser(String email, UserUpdateRequest request) {
-        log.info("사용자 정보 수정: email={}, name={}, storeName={}", email, request.getName(), request.getStoreName());
+        log.debug("사용자 정보 수정: email={}, name={}, storeName={}", email, request.getName(), request.getStoreName());
         
         Optional<User> userOptional = userRepository.findByEmail(email);
         
@@ -52,6 +56,7 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
             
             User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(email));
             
             UserResponse userResponse = convertToResponse(savedUser);
             log.info("사용자 정보 수정 성공: email={}, name={}", email, userResponse.getName());
@@ -0,0 +1,33 @@
+-- 기존 ddl-auto 로 생성된 스키마와 같은 형태. 이미 테이블이 있는 DB 에서도 그대로 실행될 수 있도록 IF NOT EXISTS 사용
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    store_name    VARCHAR(255) NOT NULL,
+    business_type VARCHAR(255),
+    address       VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS sales (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       VARCHAR(255)   NOT NULL,
+    sale_date     DATE           NOT NULL,
+    amount        NUMERIC(15, 2) NOT NULL,
+    store_name    VARCHAR(255),
+    business_type VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS sale_statistics (
+    user_id        VARCHAR(255) PRIMARY KEY,
+    total_amount   NUMERIC(19, 2) NOT NULL,
+    sale_count     BIGINT         NOT NULL,
+    min_amount     NUMERIC(15, 2),
+    max_amount     NUMERIC(15, 2),
+    last_sale_date DATE,
+    updated_at     TIMESTAMP(6)
+);
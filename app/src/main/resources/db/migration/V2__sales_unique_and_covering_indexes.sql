@@ -0,0 +1,31 @@
+-- 읽고-쓰기 사이 경쟁으로 생긴 (user_id, sale_date) 중복 행 정리: 가장 최근 id 만 남김
+DELETE FROM sales s
+USING sales newer
+WHERE s.user_id = newer.user_id
+  AND s.sale_date = newer.sale_date
+  AND s.id < newer.id;
+
+-- 하루 한 건 규칙을 DB 에서 보장하면서, amount 를 INCLUDE 해 사용자별 기간 조회/집계가 index-only scan 으로 처리되도록 함
+ALTER TABLE sales DROP CONSTRAINT IF EXISTS uk_sales_user_id_sale_date;
+ALTER TABLE sales
+    ADD CONSTRAINT uk_sales_user_id_sale_date UNIQUE (user_id, sale_date) INCLUDE (amount);
+
+-- users.email 은 ddl-auto 가 만든 이름 모를 unique 제약이 있을 수 있으므로 없을 때만 생성
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_index i
+        JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+        WHERE i.indrelid = 'users'::regclass
+          AND i.indisunique
+          AND i.indnkeyatts = 1
+          AND a.attname = 'email'
+    ) THEN
+        ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);
+    END IF;
+END
+$$;
+
+ANALYZE sales;
+ANALYZE users;
@@ -0,0 +1,53 @@
+-- sales 를 sale_date 기준 연도별 range 파티션 테이블로 전환
+-- 조회는 대부분 사용자 단위(user_id + 기간)이므로 월 단위보다 파티션 수가 적은 연 단위로 나눔 (전체 이력 조회 시 Merge Append 대상 수를 줄임)
+-- 이후 연도 파티션은 SalePartitionService 가 미리 만들고, 범위 밖 날짜는 sales_default 로 들어갔다가 파티션 생성 시 옮겨짐
+
+-- 1. 기존 테이블과 제약 이름을 비워 둠 (인덱스 이름은 스키마 안에서 유일해야 함)
+ALTER TABLE sales RENAME TO sales_unpartitioned;
+ALTER TABLE sales_unpartitioned RENAME CONSTRAINT sales_pkey TO sales_unpartitioned_pkey;
+ALTER TABLE sales_unpartitioned RENAME CONSTRAINT uk_sales_user_id_sale_date TO uk_sales_unpartitioned_user_id_sale_date;
+
+-- 2. 파티션 테이블. 기본키/유니크 제약에는 파티션 키(sale_date)가 포함되어야 함
+--    id 는 계속 identity 로 발급되므로 (id, sale_date) 기본키여도 id 는 유일
+CREATE TABLE sales (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id       VARCHAR(255)   NOT NULL,
+    sale_date     DATE           NOT NULL,
+    amount        NUMERIC(15, 2) NOT NULL,
+    store_name    VARCHAR(255),
+    business_type VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT sales_pkey PRIMARY KEY (id, sale_date),
+    CONSTRAINT uk_sales_user_id_sale_date UNIQUE (user_id, sale_date) INCLUDE (amount)
+) PARTITION BY RANGE (sale_date);
+
+CREATE TABLE sales_default PARTITION OF sales DEFAULT;
+
+-- 3. 기존 데이터의 첫 연도부터 내년까지 연도별 파티션 생성
+DO $$
+DECLARE
+    first_year INT;
+    last_year  INT := EXTRACT(YEAR FROM CURRENT_DATE)::INT + 1;
+BEGIN
+    SELECT COALESCE(EXTRACT(YEAR FROM MIN(sale_date))::INT, EXTRACT(YEAR FROM CURRENT_DATE)::INT)
+    INTO first_year
+    FROM sales_unpartitioned;
+
+    FOR y IN first_year..last_year LOOP
+        EXECUTE format('CREATE TABLE sales_y%s PARTITION OF sales FOR VALUES FROM (%L) TO (%L)',
+                       y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+    END LOOP;
+END
+$$;
+
+-- 4. 데이터 이전 후 identity 가 기존 최대 id 다음부터 발급되도록 맞춤
+INSERT INTO sales (id, user_id, sale_date, amount, store_name, business_type, created_at, updated_at)
+SELECT id, user_id, sale_date, amount, store_name, business_type, created_at, updated_at
+FROM sales_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('sales', 'id'), COALESCE((SELECT MAX(id) FROM sales), 0) + 1, false);
+
+DROP TABLE sales_unpartitioned;
+
+ANALYZE sales;
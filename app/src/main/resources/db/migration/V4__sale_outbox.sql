@@ -0,0 +1,13 @@
+-- 매출 변경 이벤트 outbox: SaleService 가 매출 변경과 같은 트랜잭션에서 기록하고, SaleOutboxRelay 가 id 순으로 읽어 발행한 뒤 삭제
+-- 발행 전 행만 남으므로 별도 정리 작업이나 published 컬럼 없이 기본키 순서로 읽음
+CREATE TABLE sale_outbox (
+    id                 BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_type         VARCHAR(20)    NOT NULL,
+    user_id            VARCHAR(255)   NOT NULL,
+    sale_id            BIGINT,
+    sale_date          DATE,
+    amount             NUMERIC(15, 2),
+    previous_sale_date DATE,
+    previous_amount    NUMERIC(15, 2),
+    occurred_at        TIMESTAMP(6)   NOT NULL DEFAULT LOCALTIMESTAMP
+);
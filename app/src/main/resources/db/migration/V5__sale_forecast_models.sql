@@ -0,0 +1,11 @@
+-- 사용자별 매출 예측 모델 상태 (요일별 계절성 + 지수평활). 야간 배치가 last_date 이후 확정된 일자만 이어서 반영
+-- seasonal 은 월요일(0) ~ 일요일(6) 순서의 7개 값
+CREATE TABLE sale_forecast_models (
+    user_id         VARCHAR(255)       PRIMARY KEY,
+    level           DOUBLE PRECISION   NOT NULL,
+    seasonal        DOUBLE PRECISION[] NOT NULL,
+    mean_abs_error  DOUBLE PRECISION   NOT NULL,
+    observations    INT                NOT NULL,
+    last_date       DATE               NOT NULL,
+    updated_at      TIMESTAMP(6)       NOT NULL
+);
@@ -0,0 +1,53 @@
+package com.kt.backendapp.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 값이 많아도 보관 개수가 k 수준으로 유지되고, 순위/분위수 오차가 k=200 기준 2% 이내인지 확인
+class KllSketchTest {
+
+    @Test
+    void approximatesRanksOfManyValues() {
+        KllSketch sketch = new KllSketch(200, new SplittableRandom(42));
+        int n = 1_000_000;
+        // 0 ~ n-1 을 섞인 순서로 넣음
+        long step = 999_983;
+        for (long i = 0; i < n; i++) {
+            sketch.update((i * step) % n);
+        }
+
+        assertThat(sketch.getCount()).isEqualTo(n);
+        assertThat(sketch.getRetained()).isLessThan(1_000);
+        for (double fraction : new double[]{0.1, 0.25, 0.5, 0.75, 0.9, 0.99}) {
+            assertThat(sketch.cdf(fraction * n)).isCloseTo(fraction, within(0.02));
+            assertThat(sketch.quantile(fraction) / n).isCloseTo(fraction, within(0.02));
+        }
+        assertThat(sketch.cdf(-1)).isZero();
+        assertThat(sketch.cdf(n)).isEqualTo(1.0);
+    }
+
+    @Test
+    void smallInputsAreExact() {
+        KllSketch sketch = new KllSketch(200);
+        for (int value = 1; value <= 10; value++) {
+            sketch.update(value * 100_000);
+        }
+
+        assertThat(sketch.cdf(300_000)).isEqualTo(0.3);
+        assertThat(sketch.quantile(0.5)).isEqualTo(500_000);
+        assertThat(sketch.quantile(0)).isEqualTo(100_000);
+        assertThat(sketch.quantile(1)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void emptySketchReturnsNaN() {
+        KllSketch sketch = new KllSketch(200);
+
+        assertThat(sketch.cdf(1)).isNaN();
+        assertThat(sketch.quantile(0.5)).isNaN();
+    }
+}
@@ -0,0 +1,114 @@
+package com.kt.backendapp.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 누적합/이진 탐색 결과가 단순 반복 합계와 같은지 (매출이 없는 날이 섞인 이력, 이력 밖 기간 포함)
+class SaleColumnsTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void rangeQueriesMatchBruteForce() {
+        Random random = new Random(7);
+        TreeMap<LocalDate, BigDecimal> history = new TreeMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            if (random.nextInt(4) != 0) {
+                history.put(FIRST_DAY.plusDays(i), BigDecimal.valueOf(random.nextInt(100_000_000), 2));
+            }
+        }
+        SaleColumns.Builder builder = SaleColumns.builder(0);
+        history.forEach(builder::add);
+        SaleColumns columns = builder.build();
+        assertThat(columns.size()).isEqualTo(history.size());
+
+        for (int trial = 0; trial < 200; trial++) {
+            LocalDate from = FIRST_DAY.plusDays(random.nextInt(1_100) - 50);
+            LocalDate to = from.plusDays(random.nextInt(400));
+            BigDecimal expectedTotal = BigDecimal.ZERO;
+            long[] expectedWeekdays = new long[7];
+            for (var entry : history.subMap(from, true, to, true).entrySet()) {
+                expectedTotal = expectedTotal.add(entry.getValue());
+                expectedWeekdays[entry.getKey().getDayOfWeek().ordinal()] += SaleColumns.toMinorUnits(entry.getValue());
+            }
+
+            assertThat(SaleColumns.fromMinorUnits(columns.sum(from, to))).isEqualByComparingTo(expectedTotal);
+            assertThat(columns.count(from, to)).isEqualTo(history.subMap(from, true, to, true).size());
+            assertThat(columns.weekdaySums(from, to)).containsExactly(expectedWeekdays);
+        }
+    }
+
+    @Test
+    void findsBestAndWorstDayInRange() {
+        SaleColumns columns = SaleColumns.builder(4)
+                .add(LocalDate.of(2026, 3, 2), new BigDecimal("100.00"))
+                .add(LocalDate.of(2026, 3, 3), new BigDecimal("500.50"))
+                .add(LocalDate.of(2026, 3, 5), new BigDecimal("50.25"))
+                .add(LocalDate.of(2026, 3, 9), new BigDecimal("900.00"))
+                .build();
+
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 8);
+        assertThat(columns.dateAt(columns.maxIndex(from, to))).isEqualTo(LocalDate.of(2026, 3, 3));
+        assertThat(columns.dateAt(columns.minIndex(from, to))).isEqualTo(LocalDate.of(2026, 3, 5));
+        assertThat(SaleColumns.fromMinorUnits(columns.amountAt(columns.minIndex(from, to)))).isEqualByComparingTo("50.25");
+        assertThat(columns.weekdayCounts(from, to)[DayOfWeek.MONDAY.ordinal()]).isEqualTo(1);
+        assertThat(columns.maxIndex(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30))).isEqualTo(-1);
+        assertThat(columns.sum(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30))).isZero();
+    }
+
+    @Test
+    void withChangesMatchesRebuiltColumns() {
+        Random random = new Random(11);
+        TreeMap<LocalDate, BigDecimal> history = new TreeMap<>();
+        for (int i = 0; i < 300; i++) {
+            if (random.nextBoolean()) {
+                history.put(FIRST_DAY.plusDays(i), BigDecimal.valueOf(random.nextInt(1_000_000), 2));
+            }
+        }
+        SaleColumns.Builder builder = SaleColumns.builder(0);
+        history.forEach(builder::add);
+        SaleColumns columns = builder.build();
+
+        Map<LocalDate, BigDecimal> changes = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            LocalDate day = FIRST_DAY.plusDays(random.nextInt(320) - 10);
+            BigDecimal amount = random.nextInt(3) == 0 ? null : BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            changes.put(day, amount);
+            if (amount == null) {
+                history.remove(day);
+            } else {
+                history.put(day, amount);
+            }
+        }
+        SaleColumns changed = columns.withChanges(changes);
+
+        assertThat(changed.size()).isEqualTo(history.size());
+        int index = 0;
+        for (var entry : history.entrySet()) {
+            assertThat(changed.dateAt(index)).isEqualTo(entry.getKey());
+            assertThat(SaleColumns.fromMinorUnits(changed.amountAt(index))).isEqualByComparingTo(entry.getValue());
+            index++;
+        }
+        assertThat(SaleColumns.fromMinorUnits(changed.sum(FIRST_DAY.minusDays(10), FIRST_DAY.plusDays(320))))
+                .isEqualByComparingTo(history.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    @Test
+    void rejectsUnorderedDates() {
+        SaleColumns.Builder builder = SaleColumns.builder(2).add(LocalDate.of(2026, 3, 2), BigDecimal.ONE);
+
+        assertThatThrownBy(() -> builder.add(LocalDate.of(2026, 3, 2), BigDecimal.TEN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.kt.backendapp.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 진행 중인 같은 키 호출은 한 번만 실행되고, 끝난 뒤의 호출과 실패는 공유되지 않는지 확인
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("user1", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            // 나머지 호출이 진행 중인 실행에 합류할 때까지 대기
+            while (meterRegistry.counter("app.singleflight.requests", "name", "test", "outcome", "coalesced").count() < 3) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        }
+        assertThat(executions).hasValue(1);
+
+        assertThat(singleFlight.execute("user1", executions::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void failureIsNotRemembered() {
+        assertThatThrownBy(() -> singleFlight.execute("user1", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("user1", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
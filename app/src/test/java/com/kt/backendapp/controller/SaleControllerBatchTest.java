@@ -0,0 +1,94 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// JSON 배열은 한도를 넘는 순간 저장 없이 400, NDJSON 은 행별 결과 대신 건수 + 실패 행만 돌려주는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class SaleControllerBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleStatisticsRepository saleStatisticsRepository;
+
+    private final String userId = "batch-controller-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+        saleStatisticsRepository.deleteById(userId);
+    }
+
+    @Test
+    void jsonArrayOverLimitIsRejectedWithoutSaving() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i <= 10_000; i++) {
+            body.append(i == 0 ? "" : ",").append(sale("2026-03-01", "1000"));
+        }
+        body.append("]");
+
+        mockMvc.perform(post("/api/sales/batch").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(saleRepository.findByUserIdOrderBySaleDateDesc(userId)).isEmpty();
+    }
+
+    @Test
+    void jsonArrayReturnsPerRowResults() throws Exception {
+        mockMvc.perform(post("/api/sales/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + sale("2026-03-01", "1000") + "," + sale("2026-03-02", "2000") + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.insertedCount").value(2))
+                .andExpect(jsonPath("$.data.results.length()").value(2));
+    }
+
+    @Test
+    void malformedJsonArrayIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/sales/batch").contentType(MediaType.APPLICATION_JSON).content("[{\"userId\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void ndjsonReturnsCountsAndFailedRowsOnly() throws Exception {
+        String body = sale("2026-03-01", "1000") + "\n"
+                + sale("2026-03-02", "-5") + "\n"
+                + sale("2026-03-03", "3000") + "\n"
+                + sale("2026-03-01", "1500") + "\n";
+
+        mockMvc.perform(post("/api/sales/batch").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.processedCount").value(4))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.errors.length()").value(1))
+                .andExpect(jsonPath("$.data.errors[0].index").value(2))
+                .andExpect(jsonPath("$.data.results").doesNotExist());
+
+        assertThat(saleRepository.findByUserIdOrderBySaleDateDesc(userId)).hasSize(2);
+    }
+
+    private String sale(String saleDate, String amount) {
+        return "{\"userId\":\"" + userId + "\",\"saleDate\":\"" + saleDate + "\",\"amount\":" + amount + "}";
+    }
+}
@@ -0,0 +1,155 @@
+package com.kt.backendapp.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.dto.SaleSeriesResponse;
+import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import com.kt.backendapp.service.SaleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 같은 매출 조회 URL 이 Accept 에 따라 행 목록 JSON / 열 지향 JSON / CBOR 로 응답하고, 표현별 ETag 로 304 를 돌려주는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class SaleControllerContentNegotiationTest {
+
+    private static final MediaType SERIES_JSON = MediaType.parseMediaType(SaleSeriesResponse.JSON_MEDIA_TYPE);
+
+    private static final MediaType SERIES_CBOR = MediaType.parseMediaType(SaleSeriesResponse.CBOR_MEDIA_TYPE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleStatisticsRepository saleStatisticsRepository;
+
+    private final String userId = "negotiation-test-" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        saleService.createSale(new SaleRequest(userId, LocalDate.of(2026, 3, 2), new BigDecimal("1000.50"), "가게", "카페"));
+        saleService.createSale(new SaleRequest(userId, LocalDate.of(2026, 3, 4), new BigDecimal("2000.00"), "가게", "카페"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+        saleStatisticsRepository.deleteById(userId);
+    }
+
+    @Test
+    void defaultAndJsonAcceptReturnRows() throws Exception {
+        for (String accept : new String[] {"*/*", MediaType.APPLICATION_JSON_VALUE}) {
+            mockMvc.perform(get("/api/sales/user/{userId}", userId).header(HttpHeaders.ACCEPT, accept))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string(HttpHeaders.ETAG, not(endsWith("-series\""))))
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[0].saleDate").value("2026-03-04"))
+                    .andExpect(jsonPath("$.data[0].userId").value(userId));
+        }
+    }
+
+    @Test
+    void seriesJsonReturnsColumnarBody() throws Exception {
+        mockMvc.perform(get("/api/sales/user/{userId}", userId).accept(SERIES_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SERIES_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-series\"")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.data.userId").value(userId))
+                .andExpect(jsonPath("$.data.startDate").value("2026-03-02"))
+                .andExpect(jsonPath("$.data.days[0]").value(0))
+                .andExpect(jsonPath("$.data.days[1]").value(2))
+                .andExpect(jsonPath("$.data.amounts[0]").value(100050))
+                .andExpect(jsonPath("$.data.amounts[1]").value(200000));
+
+        mockMvc.perform(get("/api/sales/user/{userId}/range", userId)
+                        .param("startDate", "2026-03-03")
+                        .param("endDate", "2026-03-31")
+                        .accept(SERIES_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SERIES_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-series\"")))
+                .andExpect(jsonPath("$.data.startDate").value("2026-03-04"))
+                .andExpect(jsonPath("$.data.amounts.length()").value(1));
+    }
+
+    @Test
+    void seriesCborReturnsColumnarBody() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/sales/user/{userId}", userId).accept(SERIES_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SERIES_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-series\"")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.path("success").asBoolean()).isTrue();
+        assertThat(body.path("data").path("startDate").asText()).isEqualTo("2026-03-02");
+        assertThat(body.path("data").path("amounts").get(1).asLong()).isEqualTo(200000L);
+    }
+
+    @Test
+    void matchingETagReturnsNotModifiedPerRepresentation() throws Exception {
+        String rowsETag = mockMvc.perform(get("/api/sales/user/{userId}", userId).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String seriesETag = mockMvc.perform(get("/api/sales/user/{userId}", userId).accept(SERIES_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(rowsETag).isNotEqualTo(seriesETag);
+
+        mockMvc.perform(get("/api/sales/user/{userId}", userId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, rowsETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/sales/user/{userId}", userId)
+                        .accept(SERIES_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, seriesETag))
+                .andExpect(status().isNotModified());
+        // 다른 표현의 ETag 로는 304 가 나오지 않음
+        mockMvc.perform(get("/api/sales/user/{userId}", userId)
+                        .accept(SERIES_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, rowsETag))
+                .andExpect(status().isOk());
+
+        // 매출이 바뀌면 이전 ETag 로 다시 200
+        saleService.createSale(new SaleRequest(userId, LocalDate.of(2026, 3, 5), new BigDecimal("10.00"), "가게", "카페"));
+        mockMvc.perform(get("/api/sales/user/{userId}", userId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, rowsETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3));
+    }
+}
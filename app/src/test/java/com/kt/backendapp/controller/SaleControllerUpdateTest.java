@@ -0,0 +1,86 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import com.kt.backendapp.service.SaleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 이미 다른 매출이 있는 날짜로 옮기는 수정은 제약 위반 500 대신 409 이고, 두 행 모두 그대로인지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class SaleControllerUpdateTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2026, 3, 2);
+
+    private static final LocalDate SECOND = LocalDate.of(2026, 3, 3);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleStatisticsRepository saleStatisticsRepository;
+
+    private final String userId = "update-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+        saleStatisticsRepository.deleteById(userId);
+    }
+
+    @Test
+    void movingOntoOccupiedDateIsConflict() throws Exception {
+        SaleResponse first = saleService.createSale(new SaleRequest(userId, FIRST, new BigDecimal("100"), "가게", "카페"));
+        saleService.createSale(new SaleRequest(userId, SECOND, new BigDecimal("200"), "가게", "카페"));
+
+        mockMvc.perform(put("/api/sales/{saleId}/user/{userId}", first.getId(), userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(SECOND, "150")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(saleRepository.findByUserIdAndSaleDate(userId, FIRST).orElseThrow().getAmount())
+                .isEqualByComparingTo("100");
+        assertThat(saleRepository.findByUserIdAndSaleDate(userId, SECOND).orElseThrow().getAmount())
+                .isEqualByComparingTo("200");
+    }
+
+    @Test
+    void movingOntoFreeDateSucceeds() throws Exception {
+        SaleResponse first = saleService.createSale(new SaleRequest(userId, FIRST, new BigDecimal("100"), "가게", "카페"));
+
+        mockMvc.perform(put("/api/sales/{saleId}/user/{userId}", first.getId(), userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(SECOND, "150")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.saleDate").value(SECOND.toString()));
+    }
+
+    private String body(LocalDate saleDate, String amount) {
+        return "{\"userId\":\"" + userId + "\",\"saleDate\":\"" + saleDate + "\",\"amount\":" + amount
+                + ",\"storeName\":\"가게\",\"businessType\":\"카페\"}";
+    }
+}
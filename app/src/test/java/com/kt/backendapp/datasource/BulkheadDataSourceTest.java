@@ -0,0 +1,91 @@
+package com.kt.backendapp.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 허용 수는 커넥션을 얻는 동안만 차지하고(close 한 번에 한 번 반납), 포화 시 요청 스레드만 거절 표시를 남기는지 확인
+class BulkheadDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BulkheadDataSource bulkhead =
+            new BulkheadDataSource(pool, "primary", 1, Duration.ofMillis(10), Duration.ofMillis(50));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void permitIsHeldUntilConnectionIsClosed() throws SQLException {
+        Connection raw = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(raw);
+        bulkhead.bindTo(meterRegistry);
+
+        Connection first = bulkhead.getConnection();
+        assertThat(meterRegistry.get("app.bulkhead.available").gauge().value()).isZero();
+        assertThatThrownBy(bulkhead::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        verify(raw, times(2)).close();
+        assertThat(meterRegistry.get("app.bulkhead.available").gauge().value()).isEqualTo(1);
+
+        bulkhead.getConnection().close();
+        assertThat(meterRegistry.get("app.bulkhead.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectionInsideRequestMarksTheRequest() throws SQLException {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Connection held = bulkhead.getConnection();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertThatThrownBy(bulkhead::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        assertThat(request.getAttribute(BulkheadDataSource.REJECTED_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+        held.close();
+    }
+
+    @Test
+    void coalescedRejectionMarksTheWaitingRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        BulkheadDataSource.markRequestIfRejected(new IllegalStateException("other"));
+        assertThat(request.getAttribute(BulkheadDataSource.REJECTED_ATTRIBUTE)).isNull();
+
+        BulkheadDataSource.markRequestIfRejected(new CannotCreateTransactionException("no connection",
+                new SQLTransientConnectionException("primary 커넥션 풀이 포화 상태입니다")));
+        assertThat(request.getAttribute(BulkheadDataSource.REJECTED_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    void failedAcquisitionFromPoolReturnsThePermit() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("down")).thenReturn(mock(Connection.class));
+
+        assertThatThrownBy(bulkhead::getConnection).hasMessage("down");
+        assertThat(bulkhead.getConnection()).isNotNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.kt.backendapp.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 지연 확인 결과가 lag-check-interval 의 3배보다 오래되면(확인이 멈추면) replica 를 쓰지 않는지 확인
+class ReplicaLagMonitorTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(dataSource, Duration.ofSeconds(5),
+            Duration.ofMillis(50), new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+    }
+
+    @Test
+    void staleCheckMakesReplicaUnavailable() throws Exception {
+        lag(0.5);
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+
+        Thread.sleep(200);
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+
+        lag(0.5);
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void lagOverLimitOrFailedCheckMakesReplicaUnavailable() throws Exception {
+        lag(10);
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+
+        when(dataSource.getConnection()).thenThrow(new SQLException("down"));
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+    }
+
+    private void lag(double seconds) throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getDouble(1)).thenReturn(seconds);
+    }
+}
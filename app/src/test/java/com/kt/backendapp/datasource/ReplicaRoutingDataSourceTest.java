@@ -0,0 +1,60 @@
+package com.kt.backendapp.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// readOnly 트랜잭션만 replica 로 가고, 쓰기 직후(sticky) 와 replica 지연 시에는 primary 로 가는지 확인
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class), lagMonitor,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    void readAfterWriteStaysOnPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.requirePrimary();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+    }
+}
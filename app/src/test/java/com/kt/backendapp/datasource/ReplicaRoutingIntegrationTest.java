@@ -0,0 +1,95 @@
+package com.kt.backendapp.datasource;
+
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import com.kt.backendapp.service.SaleQueryCacheService;
+import com.kt.backendapp.service.SaleService;
+import com.kt.backendapp.service.UserQueryCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 읽기/쓰기 분리를 켠 상태에서 readOnly 조회는 replica 로, 쓰기와 캐시 미스 로드는 primary 로 가는지 라우팅 카운터로 확인
+@SpringBootTest(properties = "app.datasource.replica.enabled=true")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private SaleQueryCacheService saleQueryCacheService;
+
+    @Autowired
+    private UserQueryCacheService userQueryCacheService;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleStatisticsRepository saleStatisticsRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String userId = "routing-test-" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // 첫 지연 확인 전에는 모두 primary 로 가므로 바로 한 번 확인
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+        saleStatisticsRepository.deleteById(userId);
+    }
+
+    @Test
+    void readOnlyQueryGoesToReplicaAndWriteToPrimary() {
+        double replicaBefore = routed("replica");
+        saleService.getSalesByUserId(userId);
+        assertThat(routed("replica")).isGreaterThan(replicaBefore);
+
+        double primaryBefore = routed("primary");
+        saleService.createSale(new SaleRequest(userId, LocalDate.of(2026, 3, 2), new BigDecimal("1000.00"), "가게", "카페"));
+        assertThat(routed("primary")).isGreaterThan(primaryBefore);
+    }
+
+    @Test
+    void cacheMissesLoadFromPrimary() {
+        saleService.createSale(new SaleRequest(userId, LocalDate.of(2026, 3, 2), new BigDecimal("1000.00"), "가게", "카페"));
+
+        double replicaBefore = routed("replica");
+        double primaryBefore = routed("primary");
+        SaleDataVersion version = saleQueryCacheService.getDataVersion(userId);
+        assertThat(saleQueryCacheService.getSalesByUserId(userId, version)).hasSize(1);
+        // 없는 사용자(부정 캐시 항목)도 primary 에서 확인한 뒤 캐시
+        assertThat(userQueryCacheService.getUserByEmail(userId + "@example.com")).isEmpty();
+
+        assertThat(routed("replica")).isEqualTo(replicaBefore);
+        assertThat(routed("primary")).isGreaterThanOrEqualTo(primaryBefore + 3);
+    }
+
+    private double routed(String target) {
+        return meterRegistry.find("app.datasource.routing").tag("target", target).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
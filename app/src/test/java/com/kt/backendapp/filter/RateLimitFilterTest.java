@@ -0,0 +1,70 @@
+package com.kt.backendapp.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자 경로 버킷이 (클라이언트 IP, userId) 단위라서, 한 클라이언트가 한도를 넘겨도 다른 클라이언트의 같은 사용자 요청은 통과하는지,
+// 429 에도 CORS 헤더가 붙어 브라우저가 상태와 Retry-After 를 볼 수 있는지 확인
+class RateLimitFilterTest {
+
+    private static final String FRONTEND_ORIGIN = "http://localhost:3000";
+
+    private final RateLimitFilter filter =
+            new RateLimitFilter(0.001, 2, 1000, 1000, 1000, new ObjectMapper(), corsConfigurationSource(), new SimpleMeterRegistry());
+
+    @Test
+    void userLimitIsPerClient() throws Exception {
+        assertThat(call("10.0.0.1", "/api/sales/user/owner@example.com")).isEqualTo(200);
+        assertThat(call("10.0.0.1", "/api/sales/user/owner@example.com/range")).isEqualTo(200);
+        assertThat(call("10.0.0.1", "/api/sales/user/owner@example.com")).isEqualTo(429);
+
+        assertThat(call("10.0.0.2", "/api/sales/user/owner@example.com")).isEqualTo(200);
+        // 같은 클라이언트라도 다른 사용자 경로는 별도 버킷
+        assertThat(call("10.0.0.1", "/api/users/other@example.com")).isEqualTo(200);
+    }
+
+    @Test
+    void rejectionCarriesCorsHeaders() throws Exception {
+        request("10.0.0.3", "/api/sales/user/owner@example.com");
+        request("10.0.0.3", "/api/sales/user/owner@example.com");
+        MockHttpServletResponse rejected = request("10.0.0.3", "/api/sales/user/owner@example.com");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Access-Control-Allow-Origin")).isEqualTo(FRONTEND_ORIGIN);
+        assertThat(rejected.getHeader("Access-Control-Allow-Credentials")).isEqualTo("true");
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+    }
+
+    private int call(String remoteAddr, String uri) throws Exception {
+        return request(remoteAddr, uri).getStatus();
+    }
+
+    private MockHttpServletResponse request(String remoteAddr, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("Origin", FRONTEND_ORIGIN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOrigins(List.of(FRONTEND_ORIGIN));
+        cors.setAllowedMethods(List.of("*"));
+        cors.setAllowCredentials(true);
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", cors);
+        return source;
+    }
+}
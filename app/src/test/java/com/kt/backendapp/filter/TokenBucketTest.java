@@ -0,0 +1,60 @@
+package com.kt.backendapp.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// burst 만큼 바로 허용하고 이후에는 초당 rate 개씩만 허용하는지, 동시 호출에서도 토큰을 더 주지 않는지 확인
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstThenRefillsAtRate() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND / 10);
+
+        assertThat(bucket.tryConsume(SECOND / 10)).isZero();
+        assertThat(bucket.tryConsume(SECOND / 10)).isPositive();
+
+        // 오래 쉬어도 burst 이상 쌓이지 않음
+        long later = 60 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(later)).isZero();
+        }
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+
+    @Test
+    void concurrentCallersShareBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 100, 0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (bucket.tryConsume(0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+        assertThat(allowed).hasValue(100);
+    }
+}
@@ -0,0 +1,83 @@
+package com.kt.backendapp.forecast;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 요일 패턴을 학습하는지, 나눠서 반영해도 한 번에 반영한 것과 같은 상태가 되는지 확인
+class SaleForecastModelTest {
+
+    private static final double ALPHA = 0.3;
+
+    private static final double GAMMA = 0.2;
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 5);
+
+    @Test
+    void learnsWeekdayPattern() {
+        SaleForecastModel model = SaleForecastModel.empty(START.minusDays(1));
+        model.observeAll(series(START, 84), ALPHA, GAMMA);
+
+        LocalDate nextWeek = START.plusDays(84);
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = nextWeek.plusDays(i);
+            assertThat(model.predict(date)).isCloseTo(amount(date), within(1_000.0));
+        }
+        assertThat(model.predict(nextWeek.with(DayOfWeek.SATURDAY)))
+                .isGreaterThan(model.predict(nextWeek.with(DayOfWeek.MONDAY)));
+        assertThat(model.getLastDate()).isEqualTo(START.plusDays(83));
+    }
+
+    @Test
+    void incrementalUpdatesMatchSinglePass() {
+        List<SaleForecastModel.Observation> history = series(START, 70);
+
+        SaleForecastModel once = SaleForecastModel.empty(START.minusDays(1));
+        once.observeAll(history, ALPHA, GAMMA);
+
+        SaleForecastModel incremental = SaleForecastModel.empty(START.minusDays(1));
+        incremental.observeAll(history.subList(0, 28), ALPHA, GAMMA);
+        SaleForecastModel restored = new SaleForecastModel(incremental.getLevel(), incremental.getSeasonal(),
+                incremental.getMeanAbsError(), incremental.getObservations(), incremental.getLastDate());
+        restored.observeAll(history.subList(28, 70), ALPHA, GAMMA);
+
+        assertThat(restored.getLevel()).isEqualTo(once.getLevel());
+        assertThat(restored.getSeasonal()).containsExactly(once.getSeasonal());
+        assertThat(restored.getObservations()).isEqualTo(70);
+    }
+
+    @Test
+    void copyDoesNotChangeOriginal() {
+        SaleForecastModel model = SaleForecastModel.empty(START.minusDays(1));
+        model.observeAll(series(START, 14), ALPHA, GAMMA);
+        double level = model.getLevel();
+
+        model.copy().observe(START.plusDays(14), 10_000_000, ALPHA, GAMMA);
+
+        assertThat(model.getLevel()).isEqualTo(level);
+    }
+
+    // 평일 100만 원, 토요일 180만 원, 일요일 150만 원
+    private static double amount(LocalDate date) {
+        return switch (date.getDayOfWeek()) {
+            case SATURDAY -> 1_800_000;
+            case SUNDAY -> 1_500_000;
+            default -> 1_000_000;
+        };
+    }
+
+    private static List<SaleForecastModel.Observation> series(LocalDate from, int days) {
+        List<SaleForecastModel.Observation> observations = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            LocalDate date = from.plusDays(i);
+            observations.add(new SaleForecastModel.Observation(date, amount(date)));
+        }
+        return observations;
+    }
+}
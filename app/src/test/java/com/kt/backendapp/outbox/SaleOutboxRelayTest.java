@@ -0,0 +1,88 @@
+package com.kt.backendapp.outbox;
+
+import com.kt.backendapp.repository.SaleOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 발행에 성공한 배치만 삭제하고, 실패한 배치는 순서를 유지한 채 다음 주기에 다시 발행하는지 확인
+class SaleOutboxRelayTest {
+
+    private SaleOutboxRepository repository;
+
+    private InMemorySaleEventSink sink;
+
+    private SaleOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SaleOutboxRepository.class);
+        when(repository.tryLockRelay()).thenReturn(true);
+        sink = new InMemorySaleEventSink();
+        relay = new SaleOutboxRelay(repository, sink, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    void publishesInIdOrderAndDeletesPublished() {
+        when(repository.findPending(2))
+                .thenReturn(List.of(event(1, "a"), event(2, "b")))
+                .thenReturn(List.of(event(3, "a")));
+        List<Long> received = new ArrayList<>();
+        sink.subscribe(event -> received.add(event.id()));
+
+        relay.relay();
+
+        assertThat(received).containsExactly(1L, 2L, 3L);
+        verify(repository).deleteByIds(List.of(1L, 2L));
+        verify(repository).deleteByIds(List.of(3L));
+    }
+
+    @Test
+    void failedBatchIsKeptAndRetried() {
+        when(repository.findPending(2)).thenReturn(List.of(event(1, "a")));
+        List<Long> received = new ArrayList<>();
+        boolean[] fail = {true};
+        sink.subscribe(event -> {
+            if (fail[0]) {
+                throw new IllegalStateException("broker down");
+            }
+            received.add(event.id());
+        });
+
+        relay.relay();
+        verify(repository, never()).deleteByIds(any());
+
+        fail[0] = false;
+        relay.relay();
+        assertThat(received).containsExactly(1L);
+        verify(repository).deleteByIds(List.of(1L));
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        when(repository.tryLockRelay()).thenReturn(false);
+
+        relay.relay();
+
+        verify(repository, never()).findPending(anyInt());
+    }
+
+    private static SaleOutboxEvent event(long id, String userId) {
+        return new SaleOutboxEvent(id, SaleOutboxEvent.Type.CREATED, userId, id, LocalDate.of(2026, 1, 1),
+                new BigDecimal("1000.00"), null, null, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.kt.backendapp.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 높은 단계가 먼저 나오고, 같은 단계 안에서는 요청자를 돌아가며 꺼내는지, 한도를 넘으면 거절하는지 확인
+class FairPriorityQueueTest {
+
+    @Test
+    void takesHigherLevelFirstAndRotatesTenants() {
+        FairPriorityQueue<String> queue = new FairPriorityQueue<>(3, 100, 100);
+        queue.offer("a", 1, "a1");
+        queue.offer("a", 1, "a2");
+        queue.offer("a", 1, "a3");
+        queue.offer("b", 1, "b1");
+        queue.offer("c", 2, "c1");
+        queue.offer("b", 1, "b2");
+        queue.offer("c", 0, "c0");
+
+        List<String> order = new ArrayList<>();
+        for (String item = queue.poll(); item != null; item = queue.poll()) {
+            order.add(item);
+        }
+
+        assertThat(order).containsExactly("c0", "a1", "b1", "a2", "b2", "a3", "c1");
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void rejectsWhenLimitsAreExceeded() {
+        FairPriorityQueue<String> queue = new FairPriorityQueue<>(1, 3, 2);
+        queue.offer("a", 0, "a1");
+        queue.offer("a", 0, "a2");
+
+        assertThatThrownBy(() -> queue.offer("a", 0, "a3")).isInstanceOf(RejectedExecutionException.class);
+
+        queue.offer("b", 0, "b1");
+        assertThatThrownBy(() -> queue.offer("c", 0, "c1")).isInstanceOf(RejectedExecutionException.class);
+
+        // 꺼내면 그 요청자의 한도가 다시 생김
+        assertThat(queue.poll()).isEqualTo("a1");
+        queue.offer("a", 0, "a3");
+        assertThat(queue.size()).isEqualTo(3);
+    }
+}
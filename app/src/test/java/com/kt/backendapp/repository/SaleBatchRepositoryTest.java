@@ -0,0 +1,88 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.Sale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 파티션 테이블 일괄 upsert 가 새로 넣은 행과 갱신한 행을 구분하고 갱신한 행의 이전 금액을 돌려주는지 확인
+// (같은 트랜잭션 안에서 넣고 다시 갱신하는 경우, 여러 연도 파티션에 걸친 경우 포함)
+@SpringBootTest
+class SaleBatchRepositoryTest {
+
+    private static final LocalDate LAST_YEAR = LocalDate.of(2025, 12, 31);
+
+    private static final LocalDate THIS_YEAR = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private SaleBatchRepository saleBatchRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String userId = "batch-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+    }
+
+    @Test
+    void flagsInsertsAndUpdatesAcrossStatements() {
+        List<SaleBatchRepository.UpsertedSale> first = saleBatchRepository.upsertAll(List.of(sale(LAST_YEAR, "100")));
+        assertThat(first).extracting(SaleBatchRepository.UpsertedSale::inserted).containsExactly(true);
+        assertThat(first.get(0).previousAmount()).isNull();
+
+        List<SaleBatchRepository.UpsertedSale> second = sortByDate(
+                saleBatchRepository.upsertAll(List.of(sale(THIS_YEAR, "300"), sale(LAST_YEAR, "200"))));
+        assertThat(second).extracting(SaleBatchRepository.UpsertedSale::saleDate).containsExactly(LAST_YEAR, THIS_YEAR);
+        assertThat(second).extracting(SaleBatchRepository.UpsertedSale::inserted).containsExactly(false, true);
+        assertThat(second.get(0).id()).isEqualTo(first.get(0).id());
+        assertThat(second.get(0).previousAmount()).isEqualByComparingTo("100");
+        assertThat(second.get(1).previousAmount()).isNull();
+    }
+
+    @Test
+    void updateOfRowInsertedInSameTransactionIsNotReportedAsInsert() {
+        List<SaleBatchRepository.UpsertedSale> second = new TransactionTemplate(transactionManager).execute(status -> {
+            saleBatchRepository.upsertAll(List.of(sale(LAST_YEAR, "100"), sale(THIS_YEAR, "150")));
+            return sortByDate(saleBatchRepository.upsertAll(
+                    List.of(sale(LAST_YEAR, "200"), sale(THIS_YEAR, "250"), sale(THIS_YEAR.plusDays(1), "300"))));
+        });
+
+        assertThat(second).extracting(SaleBatchRepository.UpsertedSale::inserted).containsExactly(false, false, true);
+        assertThat(second).extracting(SaleBatchRepository.UpsertedSale::previousAmount)
+                .usingElementComparator(Comparator.nullsFirst(BigDecimal::compareTo))
+                .containsExactly(new BigDecimal("100"), new BigDecimal("150"), null);
+        assertThat(saleRepository.findByUserIdAndSaleDate(userId, LAST_YEAR).orElseThrow().getAmount())
+                .isEqualByComparingTo("200");
+    }
+
+    private static List<SaleBatchRepository.UpsertedSale> sortByDate(List<SaleBatchRepository.UpsertedSale> upserted) {
+        return upserted.stream().sorted(Comparator.comparing(SaleBatchRepository.UpsertedSale::saleDate)).toList();
+    }
+
+    private Sale sale(LocalDate saleDate, String amount) {
+        return Sale.builder()
+                .userId(userId)
+                .saleDate(saleDate)
+                .amount(new BigDecimal(amount))
+                .storeName("가게")
+                .businessType("카페")
+                .build();
+    }
+}
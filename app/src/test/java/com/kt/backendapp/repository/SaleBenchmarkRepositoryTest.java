@@ -0,0 +1,77 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.service.SaleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기간 중 업종이 바뀐 매장이 최근 업종 하나로만, 전체 매출 기준으로 요약되는지 확인 (연도를 넘는 기간 포함)
+@SpringBootTest
+class SaleBenchmarkRepositoryTest {
+
+    private static final LocalDate MONTH_FROM = LocalDate.of(2025, 12, 1);
+
+    private static final LocalDate MONTH_TO = LocalDate.of(2025, 12, 31);
+
+    private static final LocalDate DAILY_FROM = LocalDate.of(2025, 12, 20);
+
+    private static final LocalDate DAILY_TO = LocalDate.of(2026, 1, 18);
+
+    @Autowired
+    private SaleBenchmarkRepository saleBenchmarkRepository;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleStatisticsRepository saleStatisticsRepository;
+
+    private final String userId = "benchmark-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+        saleStatisticsRepository.deleteById(userId);
+    }
+
+    @Test
+    void storeWithChangedBusinessTypeIsSummarizedOnceUnderLatestType() {
+        save(LocalDate.of(2025, 12, 10), "100", "카페");
+        save(LocalDate.of(2025, 12, 24), "200", "카페");
+        save(LocalDate.of(2026, 1, 5), "400", "베이커리");
+
+        List<SaleBenchmarkRepository.StoreSummary> summaries = new ArrayList<>();
+        saleBenchmarkRepository.forEachStoreSummary(DAILY_FROM, DAILY_TO, MONTH_FROM, MONTH_TO, summary -> {
+            if (summary.userId().equals(userId)) {
+                summaries.add(summary);
+            }
+        });
+
+        assertThat(summaries).hasSize(1);
+        SaleBenchmarkRepository.StoreSummary summary = summaries.get(0);
+        assertThat(summary.businessType()).isEqualTo("베이커리");
+        assertThat(summary.dailyAverage()).isEqualByComparingTo("300");
+        assertThat(summary.monthTotal()).isEqualByComparingTo("300");
+        assertThat(summary.lastSaleDate()).isEqualTo(LocalDate.of(2026, 1, 5));
+
+        assertThat(saleBenchmarkRepository.findStoreSummary(userId, DAILY_FROM, DAILY_TO, MONTH_FROM, MONTH_TO))
+                .contains(summary);
+    }
+
+    private void save(LocalDate saleDate, String amount, String businessType) {
+        saleService.createSale(new SaleRequest(userId, saleDate, new BigDecimal(amount), "가게", businessType));
+    }
+}
@@ -0,0 +1,53 @@
+package com.kt.backendapp.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 단건 upsert 가 새 행/갱신을 구분하고, 갱신이면 잠근 기존 행의 이전 금액을 돌려주는지 확인
+@SpringBootTest
+class SaleRepositoryUpsertTest {
+
+    private static final LocalDate SALE_DATE = LocalDate.of(2025, 6, 1);
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String userId = "upsert-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+    }
+
+    @Test
+    void updateReturnsPreviousAmount() {
+        SaleUpsertResult inserted = upsert("100");
+        assertThat(inserted.getInserted()).isTrue();
+        assertThat(inserted.getPreviousAmount()).isNull();
+
+        SaleUpsertResult updated = upsert("200");
+        assertThat(updated.getInserted()).isFalse();
+        assertThat(updated.getId()).isEqualTo(inserted.getId());
+        assertThat(updated.getPreviousAmount()).isEqualByComparingTo("100");
+        assertThat(updated.getAmount()).isEqualByComparingTo("200");
+        assertThat(updated.getUpdatedAt()).isAfter(inserted.getUpdatedAt());
+    }
+
+    private SaleUpsertResult upsert(String amount) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                saleRepository.upsert(userId, SALE_DATE, new BigDecimal(amount), "가게", "카페"));
+    }
+}
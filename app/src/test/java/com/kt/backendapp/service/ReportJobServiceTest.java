@@ -0,0 +1,161 @@
+package com.kt.backendapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.ReportJobResponse;
+import com.kt.backendapp.dto.ReportRequest;
+import com.kt.backendapp.report.ReportStatus;
+import com.kt.backendapp.report.ReportType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 같은 요청은 진행 중인 작업을 재사용하고, 실패한 작업은 임시 파일을 지우고 다시 요청할 수 있으며,
+// 정리는 보고서 결과/임시 파일 이름만 지우고, 매장 목록의 null/빈 값은 잘못된 요청으로 거절하는지 확인
+class ReportJobServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final SaleTransferService saleTransferService = mock(SaleTransferService.class);
+
+    private ReportJobService reportJobService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        reportJobService = new ReportJobService(mock(SaleService.class), saleTransferService, new ObjectMapper(),
+                new SimpleMeterRegistry(), Clock.systemDefaultZone(), 1, 100, 10, 500, directory, Duration.ofHours(1));
+        reportJobService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobService.stop();
+    }
+
+    @Test
+    void duplicateRequestReusesActiveJobUntilItFinishes() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(saleTransferService.exportCsv(anyList(), any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            invocation.<OutputStream>getArgument(3).write("user_id\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        ReportJobResponse first = reportJobService.submit(request("b@example.com", "a@example.com"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 매장 순서와 중복이 달라도 같은 요청
+        ReportJobResponse second = reportJobService.submit(request("a@example.com", "b@example.com", "a@example.com"));
+
+        assertThat(first.isDeduplicated()).isFalse();
+        assertThat(second.isDeduplicated()).isTrue();
+        assertThat(second.getId()).isEqualTo(first.getId());
+
+        release.countDown();
+        assertThat(awaitFinished(first.getId()).getStatus()).isEqualTo(ReportStatus.SUCCEEDED);
+        assertThat(directory.resolve(first.getId() + ".csv")).exists();
+
+        ReportJobResponse third = reportJobService.submit(request("a@example.com", "b@example.com"));
+        assertThat(third.isDeduplicated()).isFalse();
+        assertThat(third.getId()).isNotEqualTo(first.getId());
+    }
+
+    @Test
+    void failedJobLeavesNoFilesAndCanBeResubmitted() throws Exception {
+        when(saleTransferService.exportCsv(anyList(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("user_id\n".getBytes(StandardCharsets.UTF_8));
+            throw new IllegalStateException("조회 실패");
+        });
+
+        ReportJobResponse failed = awaitFinished(reportJobService.submit(request("a@example.com")).getId());
+
+        assertThat(failed.getStatus()).isEqualTo(ReportStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo("조회 실패");
+        assertThat(failed.getResultSize()).isNull();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+
+        ReportJobResponse retried = reportJobService.submit(request("a@example.com"));
+        assertThat(retried.isDeduplicated()).isFalse();
+        assertThat(retried.getId()).isNotEqualTo(failed.getId());
+        assertThat(awaitFinished(retried.getId()).getStatus()).isEqualTo(ReportStatus.FAILED);
+    }
+
+    @Test
+    void cleanupDeletesOnlyExpiredReportFiles() throws IOException {
+        FileTime expired = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Path oldResult = file(UUID.randomUUID() + ".csv", expired);
+        Path oldTemp = file(UUID.randomUUID() + ".json.tmp", expired);
+        Path freshResult = file(UUID.randomUUID() + ".json", FileTime.from(Instant.now()));
+        Path otherFile = file("notes.csv", expired);
+        Path otherExtension = file(UUID.randomUUID() + ".xlsx", expired);
+
+        reportJobService.cleanup();
+
+        assertThat(oldResult).doesNotExist();
+        assertThat(oldTemp).doesNotExist();
+        assertThat(freshResult).exists();
+        assertThat(otherFile).exists();
+        assertThat(otherExtension).exists();
+    }
+
+    @Test
+    void nullOrBlankUserIdIsRejected() {
+        assertThatThrownBy(() -> reportJobService.submit(request("a@example.com", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reportJobService.submit(request("a@example.com", " ")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            ReportJobResponse job = reportJobService.getJob(jobId).orElseThrow();
+            if (job.getStatus() == ReportStatus.SUCCEEDED || job.getStatus() == ReportStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("보고서 작업이 끝나지 않음: jobId=" + jobId);
+    }
+
+    private Path file(String name, FileTime lastModified) throws IOException {
+        Path file = Files.writeString(directory.resolve(name), "x");
+        Files.setLastModifiedTime(file, lastModified);
+        return file;
+    }
+
+    private static ReportRequest request(String... userIds) {
+        return ReportRequest.builder()
+                .ownerId("hq@example.com")
+                .type(ReportType.SALES_EXPORT)
+                .userIds(Arrays.asList(userIds))
+                .build();
+    }
+}
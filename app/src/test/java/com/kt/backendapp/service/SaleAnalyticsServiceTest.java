@@ -0,0 +1,97 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.event.SaleChangedEvent;
+import com.kt.backendapp.event.SaleDayChanges;
+import com.kt.backendapp.repository.SaleDailyAmount;
+import com.kt.backendapp.repository.SaleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 열 지향 배열을 같은 데이터 버전 동안은 재사용하고, 이 인스턴스의 쓰기는 바뀐 날짜만 반영하며, 그 외 버전 변경(다른 인스턴스의 쓰기 포함)은 다시 적재하는지 확인
+class SaleAnalyticsServiceTest {
+
+    private static final String USER_ID = "owner@example.com";
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    private final SaleRepository saleRepository = mock(SaleRepository.class);
+
+    private final SaleAnalyticsService service = new SaleAnalyticsService(saleRepository,
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), true, DataSize.ofMegabytes(1));
+
+    @Test
+    void reloadsWhenDataVersionChanges() {
+        SaleDataVersion before = new SaleDataVersion(1, LocalDateTime.of(2026, 3, 2, 10, 0), null);
+        SaleDataVersion after = new SaleDataVersion(2, LocalDateTime.of(2026, 3, 3, 10, 0), null);
+        when(saleRepository.findDailyAmountsByUserId(USER_ID))
+                .thenReturn(List.of(amount(LocalDate.of(2026, 3, 2), "100.00")));
+
+        assertThat(service.getSummary(USER_ID, before, FROM, TO).getTotalSales()).isEqualByComparingTo("100");
+        assertThat(service.getSummary(USER_ID, before, FROM, TO).getTotalSales()).isEqualByComparingTo("100");
+        verify(saleRepository, times(1)).findDailyAmountsByUserId(USER_ID);
+
+        when(saleRepository.findDailyAmountsByUserId(USER_ID))
+                .thenReturn(List.of(amount(LocalDate.of(2026, 3, 2), "100.00"), amount(LocalDate.of(2026, 3, 3), "50.00")));
+
+        assertThat(service.getSummary(USER_ID, after, FROM, TO).getTotalSales()).isEqualByComparingTo("150");
+        assertThat(service.getSummary(USER_ID, after, FROM, TO).getSalesCount()).isEqualTo(2);
+        verify(saleRepository, times(2)).findDailyAmountsByUserId(USER_ID);
+    }
+
+    @Test
+    void appliesLocalWriteWithoutReloading() {
+        SaleDataVersion before = new SaleDataVersion(2, LocalDateTime.of(2026, 3, 3, 10, 0), null);
+        SaleDataVersion after = new SaleDataVersion(2, LocalDateTime.of(2026, 3, 4, 10, 0), null);
+        when(saleRepository.findDailyAmountsByUserId(USER_ID))
+                .thenReturn(List.of(amount(LocalDate.of(2026, 3, 2), "100.00"), amount(LocalDate.of(2026, 3, 3), "50.00")));
+        service.getSummary(USER_ID, before, FROM, TO);
+
+        // 3/3 매출을 3/4 로 옮기며 금액 수정
+        Map<LocalDate, BigDecimal> amounts = new HashMap<>();
+        amounts.put(LocalDate.of(2026, 3, 3), null);
+        amounts.put(LocalDate.of(2026, 3, 4), new BigDecimal("70.00"));
+        service.onSaleChanged(new SaleChangedEvent(USER_ID, new SaleDayChanges(before, after, amounts)));
+
+        assertThat(service.getSummary(USER_ID, after, FROM, TO).getTotalSales()).isEqualByComparingTo("170");
+        assertThat(service.getSummary(USER_ID, after, FROM, TO).getBestDay().getDate()).isEqualTo(LocalDate.of(2026, 3, 2));
+        verify(saleRepository, times(1)).findDailyAmountsByUserId(USER_ID);
+
+        // 적재한 버전과 이어지지 않는 변경은 반영하지 않고 다음 조회에서 다시 적재
+        SaleDataVersion unrelated = new SaleDataVersion(3, LocalDateTime.of(2026, 3, 5, 10, 0), null);
+        service.onSaleChanged(new SaleChangedEvent(USER_ID, new SaleDayChanges(before, unrelated, amounts)));
+        service.getSummary(USER_ID, unrelated, FROM, TO);
+        verify(saleRepository, times(2)).findDailyAmountsByUserId(USER_ID);
+    }
+
+    private static SaleDailyAmount amount(LocalDate saleDate, String amount) {
+        return new SaleDailyAmount() {
+            @Override
+            public LocalDate getSaleDate() {
+                return saleDate;
+            }
+
+            @Override
+            public BigDecimal getAmount() {
+                return new BigDecimal(amount);
+            }
+        };
+    }
+}
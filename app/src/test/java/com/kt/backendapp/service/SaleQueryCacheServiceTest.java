@@ -0,0 +1,63 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.cache.InMemoryCacheInvalidationBus;
+import com.kt.backendapp.dto.SaleDataVersion;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.event.SaleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 무효화는 세대만 올리지만, 같은 버전으로 조회해도 이전 세대 항목은 다시 쓰이지 않는지 (다른 사용자 항목은 그대로인지) 확인
+class SaleQueryCacheServiceTest {
+
+    private static final SaleDataVersion VERSION = new SaleDataVersion(1, LocalDateTime.of(2026, 3, 2, 10, 0), null);
+
+    private final SaleService saleService = mock(SaleService.class);
+
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+
+    private final SaleQueryCacheService instanceA = newCache();
+
+    private final SaleQueryCacheService instanceB = newCache();
+
+    @Test
+    void invalidatedGenerationIsNotReadAgain() {
+        when(saleService.getSalesByUserId("a")).thenReturn(List.of(sale("a", 100)));
+        when(saleService.getSalesByUserId("b")).thenReturn(List.of(sale("b", 200)));
+        instanceA.getSalesByUserId("a", VERSION);
+        instanceA.getSalesByUserId("b", VERSION);
+        instanceB.getSalesByUserId("a", VERSION);
+
+        when(saleService.getSalesByUserId("a")).thenReturn(List.of(sale("a", 300)));
+        instanceA.onSaleChanged(new SaleChangedEvent("a"));
+
+        assertThat(instanceA.getSalesByUserId("a", VERSION)).extracting(SaleResponse::getId).containsExactly(300L);
+        // 다른 인스턴스는 무효화 메시지로 세대를 올림
+        assertThat(instanceB.getSalesByUserId("a", VERSION)).extracting(SaleResponse::getId).containsExactly(300L);
+        assertThat(instanceA.getSalesByUserId("b", VERSION)).extracting(SaleResponse::getId).containsExactly(200L);
+        verify(saleService, times(4)).getSalesByUserId("a");
+        verify(saleService, times(1)).getSalesByUserId("b");
+    }
+
+    private SaleQueryCacheService newCache() {
+        return new SaleQueryCacheService(saleService, mock(SaleStatisticsService.class), bus,
+                mock(PlatformTransactionManager.class), Clock.systemDefaultZone(), new SimpleMeterRegistry(),
+                1000, Duration.ofMinutes(5), Duration.ofSeconds(10));
+    }
+
+    private static SaleResponse sale(String userId, long id) {
+        return SaleResponse.builder().id(id).userId(userId).build();
+    }
+}
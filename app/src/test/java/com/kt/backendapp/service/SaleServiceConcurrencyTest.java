@@ -0,0 +1,114 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.dto.SaleResponse;
+import com.kt.backendapp.entity.Sale;
+import com.kt.backendapp.entity.SaleStatistics;
+import com.kt.backendapp.repository.SaleRepository;
+import com.kt.backendapp.repository.SaleStatisticsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SaleServiceConcurrencyTest {
+
+    private static final int SUBMISSIONS = 300;
+
+    private static final List<LocalDate> SALE_DATES = List.of(
+            LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 16), LocalDate.of(2024, 1, 17));
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleStatisticsRepository saleStatisticsRepository;
+
+    private final String userId = "concurrency-test-" + UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        saleRepository.deleteAll(saleRepository.findByUserIdOrderBySaleDateDesc(userId));
+        saleStatisticsRepository.deleteById(userId);
+    }
+
+    // 같은 날짜에 동시에 저장해도 한 행만 남고, 마지막으로 커밋한 요청(updated_at 이 가장 큰 응답)의 금액이 남으며
+    // 증분으로 갱신한 sale_statistics 가 원본 테이블을 다시 집계한 값과 같아야 함
+    @Test
+    void concurrentSubmissionsKeepLastWriteAndStatistics() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SaleResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 1; i <= SUBMISSIONS; i++) {
+                SaleRequest request = new SaleRequest(userId, SALE_DATES.get(i % SALE_DATES.size()),
+                        BigDecimal.valueOf(i * 1000L), "동시성 테스트", "테스트");
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return saleService.createSale(request);
+                }));
+            }
+            start.countDown();
+
+            List<SaleResponse> responses = new ArrayList<>();
+            for (Future<SaleResponse> future : futures) {
+                responses.add(future.get());
+            }
+
+            Map<LocalDate, List<SaleResponse>> byDate = responses.stream()
+                    .collect(Collectors.groupingBy(SaleResponse::getSaleDate));
+            for (LocalDate saleDate : SALE_DATES) {
+                List<SaleResponse> sameDay = byDate.get(saleDate);
+                Set<Long> ids = sameDay.stream().map(SaleResponse::getId).collect(Collectors.toSet());
+                assertEquals(1, ids.size(), "같은 날짜 요청은 모두 같은 행을 생성/갱신해야 함");
+                assertEquals(sameDay.size(), sameDay.stream().map(SaleResponse::getUpdatedAt).distinct().count(),
+                        "갱신마다 updated_at 이 달라야 함");
+
+                SaleResponse lastWrite = sameDay.stream().max(Comparator.comparing(SaleResponse::getUpdatedAt)).orElseThrow();
+                Sale stored = saleRepository.findByUserIdAndSaleDate(userId, saleDate).orElseThrow();
+                assertEquals(0, lastWrite.getAmount().compareTo(stored.getAmount()), "마지막으로 쓴 요청의 금액이 남아야 함");
+                assertEquals(lastWrite.getUpdatedAt(), stored.getUpdatedAt());
+            }
+            assertEquals(SALE_DATES.size(), saleRepository.countByUserId(userId));
+            assertStatisticsMatchRecompute();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 이후 한 번 더 저장하면 그 금액이 남아야 함
+        SaleResponse last = saleService.createSale(
+                new SaleRequest(userId, SALE_DATES.get(0), new BigDecimal("123456.78"), "동시성 테스트", "테스트"));
+        Sale stored = saleRepository.findByUserIdAndSaleDate(userId, SALE_DATES.get(0)).orElseThrow();
+        assertEquals(last.getId(), stored.getId());
+        assertEquals(0, new BigDecimal("123456.78").compareTo(stored.getAmount()));
+        assertStatisticsMatchRecompute();
+    }
+
+    private void assertStatisticsMatchRecompute() {
+        List<Sale> sales = saleRepository.findByUserIdOrderBySaleDateDesc(userId);
+        BigDecimal expectedTotal = sales.stream().map(Sale::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        SaleStatistics statistics = saleStatisticsRepository.findById(userId).orElseThrow();
+        assertEquals(0, expectedTotal.compareTo(statistics.getTotalAmount()), "sale_statistics 합계가 재집계 값과 달라짐");
+        assertEquals(sales.size(), statistics.getSaleCount(), "sale_statistics 건수가 재집계 값과 달라짐");
+    }
+}
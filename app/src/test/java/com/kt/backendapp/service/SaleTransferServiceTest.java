@@ -0,0 +1,114 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.SaleBatchItemResult;
+import com.kt.backendapp.dto.SaleImportProgress;
+import com.kt.backendapp.dto.SaleRequest;
+import com.kt.backendapp.dto.SaleResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// CSV 가져오기가 batch-size 행씩 나눠 저장하고, 형식 오류 행은 원래 행 번호로 보고하는지, 내보내기가 수식 접두어를 막는지 확인
+class SaleTransferServiceTest {
+
+    private SaleService saleService;
+
+    private SaleTransferService saleTransferService;
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private final List<SaleRequest> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        saleService = mock(SaleService.class);
+        // 모든 행을 새로 저장한 것으로 응답
+        when(saleService.upsertSales(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<SaleRequest> requests = invocation.getArgument(0);
+            batchSizes.add(requests.size());
+            saved.addAll(requests);
+            List<SaleBatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                results.add(SaleBatchItemResult.builder().index(i).status(SaleBatchItemResult.Status.INSERTED).build());
+            }
+            return results;
+        });
+        saleTransferService = new SaleTransferService(saleService, 2, 2, 100, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void importsInBatchesAndReportsInvalidRows() throws IOException {
+        String csv = "﻿user_id,sale_date,amount,store_name\n"
+                + "owner@example.com,2026-03-01,\"1,000.50\",\"'=가게\"\n"
+                + "owner@example.com,2026/03/02,1000,가게\n"
+                + "'+owner@example.com,2026-03-03,2000,가게\n"
+                + "\n"
+                + "owner@example.com,2026-03-04,abc,가게\n"
+                + "owner@example.com,2026-03-05,3000,가게\n";
+        List<SaleImportProgress> progress = new ArrayList<>();
+
+        SaleImportProgress result = saleTransferService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), progress::add);
+
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(saved.get(0).getAmount()).isEqualByComparingTo("1000.50");
+        assertThat(saved.get(0).getStoreName()).isEqualTo("=가게");
+        assertThat(saved.get(1).getUserId()).isEqualTo("+owner@example.com");
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getProcessedCount()).isEqualTo(5);
+        assertThat(result.getInsertedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(SaleBatchItemResult::getIndex).containsExactly(2, 4);
+        assertThat(progress).hasSizeGreaterThan(1).last().isSameAs(result);
+        assertThat(progress.get(0).isDone()).isFalse();
+    }
+
+    @Test
+    void exportEscapesFormulaPrefixes() throws IOException {
+        LocalDate saleDate = LocalDate.of(2026, 3, 1);
+        when(saleService.streamSalesByUserIdAndDateRange(eq("=owner"), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<SaleResponse> consumer = invocation.getArgument(3);
+            consumer.accept(SaleResponse.builder()
+                    .userId("=owner")
+                    .saleDate(saleDate)
+                    .amount(new BigDecimal("1000"))
+                    .storeName("@가게")
+                    .businessType("카페")
+                    .build());
+            return 1L;
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(saleTransferService.exportCsv("=owner", saleDate, saleDate, out)).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"'=owner\",2026-03-01,1000,\"'@가게\",카페");
+    }
+
+    @Test
+    void rejectsFileWithoutRequiredColumns() {
+        String csv = "user_id,date,amount\nowner@example.com,2026-03-01,1000\n";
+
+        assertThatThrownBy(() -> saleTransferService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), progress -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sale_date");
+    }
+}
@@ -0,0 +1,79 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.cache.InMemoryCacheInvalidationBus;
+import com.kt.backendapp.dto.UserResponse;
+import com.kt.backendapp.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 같은 무효화 버스를 쓰는 두 인스턴스의 사용자 캐시가 수정 후 서로 맞춰지는지 확인
+class UserQueryCacheServiceTest {
+
+    private static final String EMAIL = "owner@example.com";
+
+    private UserService userService;
+
+    private UserQueryCacheService instanceA;
+
+    private UserQueryCacheService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        instanceA = newCache(bus);
+        instanceB = newCache(bus);
+    }
+
+    @Test
+    void updateOnOneInstanceInvalidatesTheOther() {
+        when(userService.getUserByEmail(EMAIL)).thenReturn(user("이전 이름"));
+        assertThat(instanceA.getUserByEmail(EMAIL)).map(UserResponse::getName).contains("이전 이름");
+        assertThat(instanceB.getUserByEmail(EMAIL)).map(UserResponse::getName).contains("이전 이름");
+        verify(userService, times(2)).getUserByEmail(EMAIL);
+
+        // 캐시된 동안은 다시 조회하지 않음
+        instanceB.getUserByEmail(EMAIL);
+        verify(userService, times(2)).getUserByEmail(EMAIL);
+
+        when(userService.getUserByEmail(EMAIL)).thenReturn(user("새 이름"));
+        instanceA.onUserChanged(new UserChangedEvent(EMAIL));
+
+        assertThat(instanceA.getUserByEmail(EMAIL)).map(UserResponse::getName).contains("새 이름");
+        assertThat(instanceB.getUserByEmail(EMAIL)).map(UserResponse::getName).contains("새 이름");
+        verify(userService, times(4)).getUserByEmail(EMAIL);
+    }
+
+    @Test
+    void missingUserIsCachedUntilInvalidated() {
+        when(userService.getUserByEmail(EMAIL)).thenReturn(Optional.empty());
+        assertThat(instanceA.getUserByEmail(EMAIL)).isEmpty();
+        assertThat(instanceA.getUserByEmail(EMAIL)).isEmpty();
+        verify(userService, times(1)).getUserByEmail(EMAIL);
+
+        when(userService.getUserByEmail(EMAIL)).thenReturn(user("신규"));
+        instanceB.onUserChanged(new UserChangedEvent(EMAIL));
+
+        assertThat(instanceA.getUserByEmail(EMAIL)).map(UserResponse::getName).contains("신규");
+    }
+
+    private UserQueryCacheService newCache(InMemoryCacheInvalidationBus bus) {
+        return new UserQueryCacheService(userService, bus, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                1_000, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    private static Optional<UserResponse> user(String name) {
+        return Optional.of(UserResponse.builder().email(EMAIL).name(name).storeName("매장").build());
+    }
+}
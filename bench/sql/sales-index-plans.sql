@@ -0,0 +1,105 @@
+-- sales/users 인덱스 적용 전후 실행 계획 비교
+-- 사용법: psql -h localhost -U kt -d mydb -f bench/sql/sales-index-plans.sql > bench/results/sales-index-plans.txt
+-- 별도 스키마(bench_plans)에 사용자 500명 × 730일 매출을 만들고, V2 마이그레이션과 같은 인덱스를 적용하기 전/후를 비교한 뒤 스키마를 삭제한다.
+
+DROP SCHEMA IF EXISTS bench_plans CASCADE;
+CREATE SCHEMA bench_plans;
+SET search_path = bench_plans;
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    store_name    VARCHAR(255) NOT NULL,
+    business_type VARCHAR(255),
+    address       VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE sales (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       VARCHAR(255)   NOT NULL,
+    sale_date     DATE           NOT NULL,
+    amount        NUMERIC(15, 2) NOT NULL,
+    store_name    VARCHAR(255),
+    business_type VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+INSERT INTO users (email, name, store_name, business_type, created_at, updated_at)
+SELECT 'user' || u || '@example.com', '사장' || u, '매장' || u, '치킨전문점', LOCALTIMESTAMP, LOCALTIMESTAMP
+FROM generate_series(1, 500) AS u;
+
+-- 실제 서비스처럼 날짜 순으로 쌓이도록 날짜 → 사용자 순서로 삽입
+INSERT INTO sales (user_id, sale_date, amount, store_name, business_type, created_at, updated_at)
+SELECT 'user' || u || '@example.com',
+       DATE '2023-01-01' + d,
+       round((50000 + random() * 450000)::numeric, 2),
+       '매장' || u,
+       '치킨전문점',
+       LOCALTIMESTAMP,
+       LOCALTIMESTAMP
+FROM generate_series(0, 729) AS d, generate_series(1, 500) AS u;
+
+VACUUM ANALYZE users;
+VACUUM ANALYZE sales;
+
+\echo '===================== BEFORE (PK 만 존재) ====================='
+
+\echo '--- findByUserIdAndSaleDate'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com' AND sale_date = DATE '2024-06-01';
+
+\echo '--- findByUserIdAndSaleDateBetweenOrderBySaleDate (한 달)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com'
+  AND sale_date BETWEEN DATE '2024-06-01' AND DATE '2024-06-30' ORDER BY sale_date;
+
+\echo '--- summarizeByUserId (SUM/COUNT/MIN/MAX)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT SUM(amount), COUNT(*), MIN(amount), MAX(amount), MAX(sale_date) FROM sales WHERE user_id = 'user42@example.com';
+
+\echo '--- aggregateByUserId (month, 1년)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT CAST(date_trunc('month', sale_date) AS date), SUM(amount), ROUND(AVG(amount), 2), COUNT(*), MIN(amount), MAX(amount)
+FROM sales WHERE user_id = 'user42@example.com' AND sale_date >= DATE '2024-01-01' AND sale_date < DATE '2025-01-01'
+GROUP BY 1 ORDER BY 1;
+
+\echo '--- findByEmail'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM users WHERE email = 'user42@example.com';
+
+-- V2__sales_unique_and_covering_indexes.sql 과 같은 인덱스
+ALTER TABLE sales ADD CONSTRAINT uk_sales_user_id_sale_date UNIQUE (user_id, sale_date) INCLUDE (amount);
+ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);
+VACUUM ANALYZE users;
+VACUUM ANALYZE sales;
+
+\echo '===================== AFTER (uk_sales_user_id_sale_date INCLUDE (amount), uk_users_email) ====================='
+
+\echo '--- findByUserIdAndSaleDate'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com' AND sale_date = DATE '2024-06-01';
+
+\echo '--- findByUserIdAndSaleDateBetweenOrderBySaleDate (한 달)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com'
+  AND sale_date BETWEEN DATE '2024-06-01' AND DATE '2024-06-30' ORDER BY sale_date;
+
+\echo '--- summarizeByUserId (SUM/COUNT/MIN/MAX)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT SUM(amount), COUNT(*), MIN(amount), MAX(amount), MAX(sale_date) FROM sales WHERE user_id = 'user42@example.com';
+
+\echo '--- aggregateByUserId (month, 1년)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT CAST(date_trunc('month', sale_date) AS date), SUM(amount), ROUND(AVG(amount), 2), COUNT(*), MIN(amount), MAX(amount)
+FROM sales WHERE user_id = 'user42@example.com' AND sale_date >= DATE '2024-01-01' AND sale_date < DATE '2025-01-01'
+GROUP BY 1 ORDER BY 1;
+
+\echo '--- findByEmail'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM users WHERE email = 'user42@example.com';
+
+DROP SCHEMA bench_plans CASCADE;
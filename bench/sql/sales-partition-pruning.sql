@@ -0,0 +1,92 @@
+-- 연도별 파티션(V3__partition_sales_by_year.sql) 에서 기간/집계 조회가 필요한 파티션만 읽는지 확인
+-- 사용법: psql -h localhost -U kt -d mydb -f bench/sql/sales-partition-pruning.sql > bench/results/sales-partition-pruning.txt
+-- 별도 스키마(bench_partitions)에 사용자 500명 × 4년(2023~2026) 매출을 만들고, 리터럴 조건(계획 시 pruning)과
+-- 바인드 파라미터 generic plan(실행 시 pruning, "Subplans Removed") 두 경우의 실행 계획을 본 뒤 스키마를 삭제한다.
+
+DROP SCHEMA IF EXISTS bench_partitions CASCADE;
+CREATE SCHEMA bench_partitions;
+SET search_path = bench_partitions;
+
+CREATE TABLE sales (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id       VARCHAR(255)   NOT NULL,
+    sale_date     DATE           NOT NULL,
+    amount        NUMERIC(15, 2) NOT NULL,
+    store_name    VARCHAR(255),
+    business_type VARCHAR(255),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT sales_pkey PRIMARY KEY (id, sale_date),
+    CONSTRAINT uk_sales_user_id_sale_date UNIQUE (user_id, sale_date) INCLUDE (amount)
+) PARTITION BY RANGE (sale_date);
+
+CREATE TABLE sales_default PARTITION OF sales DEFAULT;
+CREATE TABLE sales_y2023 PARTITION OF sales FOR VALUES FROM ('2023-01-01') TO ('2024-01-01');
+CREATE TABLE sales_y2024 PARTITION OF sales FOR VALUES FROM ('2024-01-01') TO ('2025-01-01');
+CREATE TABLE sales_y2025 PARTITION OF sales FOR VALUES FROM ('2025-01-01') TO ('2026-01-01');
+CREATE TABLE sales_y2026 PARTITION OF sales FOR VALUES FROM ('2026-01-01') TO ('2027-01-01');
+
+INSERT INTO sales (user_id, sale_date, amount, store_name, business_type, created_at, updated_at)
+SELECT 'user' || u || '@example.com',
+       DATE '2023-01-01' + d,
+       round((50000 + random() * 450000)::numeric, 2),
+       '매장' || u,
+       '치킨전문점',
+       LOCALTIMESTAMP,
+       LOCALTIMESTAMP
+FROM generate_series(0, 1460) AS d, generate_series(1, 500) AS u;
+
+VACUUM ANALYZE sales;
+
+\echo '===================== 리터럴 조건 (계획 시 pruning) ====================='
+
+\echo '--- findByUserIdAndSaleDate'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com' AND sale_date = DATE '2024-06-01';
+
+\echo '--- findByUserIdAndSaleDateBetweenOrderBySaleDate (한 달)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com'
+  AND sale_date BETWEEN DATE '2024-06-01' AND DATE '2024-06-30' ORDER BY sale_date;
+
+\echo '--- aggregateByUserId (month, 1년)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT CAST(date_trunc('month', sale_date) AS date), SUM(amount), ROUND(AVG(amount), 2), COUNT(*), MIN(amount), MAX(amount)
+FROM sales WHERE user_id = 'user42@example.com' AND sale_date >= DATE '2025-01-01' AND sale_date < DATE '2026-01-01'
+GROUP BY 1 ORDER BY 1;
+
+\echo '--- findSnapshot 최근 60일 구간 (연도 경계를 걸치는 경우 두 파티션)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT COALESCE(SUM(amount) FILTER (WHERE sale_date >= DATE '2026-01-10'), 0), COUNT(*) FILTER (WHERE sale_date >= DATE '2026-01-10'),
+       COALESCE(SUM(amount) FILTER (WHERE sale_date < DATE '2026-01-10'), 0), COUNT(*) FILTER (WHERE sale_date < DATE '2026-01-10')
+FROM sales WHERE user_id = 'user42@example.com' AND sale_date >= DATE '2025-12-11' AND sale_date < DATE '2026-02-09';
+
+\echo '--- findByUserIdOrderBySaleDateDesc (기간 조건 없음: 모든 파티션을 읽음)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+SELECT * FROM sales WHERE user_id = 'user42@example.com' ORDER BY sale_date DESC;
+
+\echo '===================== 바인드 파라미터 generic plan (실행 시 pruning) ====================='
+SET plan_cache_mode = force_generic_plan;
+
+PREPARE range_query(VARCHAR, DATE, DATE) AS
+SELECT * FROM sales WHERE user_id = $1 AND sale_date BETWEEN $2 AND $3 ORDER BY sale_date;
+
+PREPARE aggregate_query(VARCHAR, TEXT, DATE, DATE) AS
+SELECT CAST(date_trunc($2, sale_date) AS date), SUM(amount), ROUND(AVG(amount), 2), COUNT(*), MIN(amount), MAX(amount)
+FROM sales WHERE user_id = $1 AND sale_date >= $3 AND sale_date < $4
+GROUP BY 1 ORDER BY 1;
+
+\echo '--- findByUserIdAndSaleDateBetweenOrderBySaleDate (한 달)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+EXECUTE range_query('user42@example.com', DATE '2024-06-01', DATE '2024-06-30');
+
+\echo '--- aggregateByUserId (month, 1년)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, TIMING OFF, SUMMARY ON)
+EXECUTE aggregate_query('user42@example.com', 'month', DATE '2025-01-01', DATE '2026-01-01');
+
+DEALLOCATE range_query;
+DEALLOCATE aggregate_query;
+RESET plan_cache_mode;
+
+RESET search_path;
+DROP SCHEMA bench_partitions CASCADE;